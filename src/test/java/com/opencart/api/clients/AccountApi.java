@@ -1,18 +1,24 @@
 package com.opencart.api.clients;
 
+import com.opencart.api.enums.ApiBackend;
+import com.opencart.utils.JdkHttpBackend;
+import com.opencart.utils.SessionManager;
 import com.opencart.utils.SpecFactory;
-import io.restassured.filter.cookie.CookieFilter;
 import io.restassured.response.Response;
 
 public class AccountApi {
-    private final CookieFilter cookieFilter;
+    private final SessionManager session;
+    // Set when api.backend=jdk: requests then go through the asynchronous client
+    private final AsyncAccountApi async;
 
-    public AccountApi(CookieFilter cookieFilter) {
-        this.cookieFilter = cookieFilter;
+    public AccountApi(SessionManager session) {
+        this.session = session;
+        this.async = ApiBackend.configured() == ApiBackend.JDK ? new AsyncAccountApi(session) : null;
     }
 
     public Response sendGETRequest(String endpoint) {
-        return SpecFactory.getRequestSpec(cookieFilter)
+        if (async != null) return JdkHttpBackend.await(async.sendGETRequest(endpoint));
+        return SpecFactory.getRequestSpec(session)
                 .when()
                 .get(endpoint)
                 .then()
@@ -4,11 +4,17 @@ public class ApiRoutes {
     public static final String BASE_URI = "http://opencart.abstracta.us";
     public static final String LOGIN = "/index.php?route=account/login";
     public static final String LOGOUT = "/index.php?route=account/logout";
+    public static final String ACCOUNT = "/index.php?route=account/account";
+    public static final String REGISTER = "/index.php?route=account/register";
     public static final String REMOVE_CART = "/index.php?route=checkout/cart/remove";
     public static final String HOME = "/index.php?route=common/home";
+    public static final String SEARCH = "/index.php?route=product/search";
+    public static final String PRODUCT = "/index.php?route=product/product";
     public static final String CART = "/index.php?route=checkout/cart";
     public static final String ADD_CART = "/index.php?route=checkout/cart/add";
     public static final String EDIT_CART = "/index.php?route=checkout/cart/edit";
+    public static final String WISHLIST = "/index.php?route=account/wishlist";
+    public static final String ADD_WISHLIST = "/index.php?route=account/wishlist/add";
     public static final String GUEST_CHECKOUT = "/index.php?route=checkout/guest";
     public static final String AUTH_CHECKOUT = "/index.php?route=checkout/checkout";
     public static final String ADDRESS_CHECKOUT = "/index.php?route=checkout/%s/save";
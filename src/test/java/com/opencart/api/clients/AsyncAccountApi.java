@@ -0,0 +1,22 @@
+package com.opencart.api.clients;
+
+import com.opencart.utils.JdkHttpBackend;
+import com.opencart.utils.SessionManager;
+import io.restassured.response.Response;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link AccountApi} on the JDK HTTP backend.
+ */
+public class AsyncAccountApi {
+    private final SessionManager session;
+
+    public AsyncAccountApi(SessionManager session) {
+        this.session = session;
+    }
+
+    public CompletableFuture<Response> sendGETRequest(String endpoint) {
+        return JdkHttpBackend.get(session, endpoint);
+    }
+}
@@ -0,0 +1,61 @@
+package com.opencart.api.clients;
+
+import com.opencart.api.models.CartLine;
+import com.opencart.utils.JdkHttpBackend;
+import com.opencart.utils.SessionManager;
+import com.opencart.utils.SpecFactory;
+import io.restassured.response.Response;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link CartApi} on the JDK HTTP backend: same requests, non-blocking results.
+ */
+public class AsyncCartApi {
+
+    private final SessionManager session;
+
+    public AsyncCartApi(SessionManager session) {
+        this.session = session;
+    }
+
+    public CompletableFuture<Response> getCart() {
+        return JdkHttpBackend.get(session, ApiRoutes.CART);
+    }
+
+    public CompletableFuture<Response> addToCart(int productId, int quantity, Map<String, String> options) {
+        Map<String, Object> form = new HashMap<>(options);
+        form.put("product_id", productId);
+        form.put("quantity", quantity);
+        return JdkHttpBackend.post(session, ApiRoutes.ADD_CART, form,
+                        Map.of("Accept", "application/json", "X-Requested-With", "XMLHttpRequest"))
+                .thenApply(response -> JdkHttpBackend.expect(response, SpecFactory.jsonResponseWithStatus(200)));
+    }
+
+    public CompletableFuture<Response> removeFromCart(String key) {
+        return JdkHttpBackend.post(session, ApiRoutes.REMOVE_CART, Map.of("key", key));
+    }
+
+    /**
+     * Removes every line at once: the removals don't depend on each other.
+     */
+    public CompletableFuture<Void> removeAllItems() {
+        return getCartLines().thenCompose(lines -> CompletableFuture.allOf(lines.stream()
+                .map(line -> removeFromCart(line.key()))
+                .toArray(CompletableFuture[]::new)));
+    }
+
+    public CompletableFuture<Response> updateQuantity(String key, int newQty) {
+        return JdkHttpBackend.post(session, ApiRoutes.EDIT_CART, Map.of("quantity[" + key + "]", newQty));
+    }
+
+    /**
+     * Cart lines scanned straight off the response stream; the download stops at the end of the cart table.
+     */
+    public CompletableFuture<List<CartLine>> getCartLines() {
+        return JdkHttpBackend.getStream(session, ApiRoutes.CART, CartKeyScanner::scan);
+    }
+}
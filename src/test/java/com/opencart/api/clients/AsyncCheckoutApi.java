@@ -0,0 +1,93 @@
+package com.opencart.api.clients;
+
+import com.opencart.api.enums.AddressType;
+import com.opencart.utils.JdkHttpBackend;
+import com.opencart.utils.SessionManager;
+import com.opencart.utils.SpecFactory;
+import io.restassured.response.Response;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link CheckoutApi} on the JDK HTTP backend: same requests in the same order, non-blocking results.
+ * The steps stay sequential because each method-list GET stores that list in the session the
+ * following save is checked against.
+ */
+public class AsyncCheckoutApi {
+
+    private final SessionManager session;
+
+    public AsyncCheckoutApi(SessionManager session) {
+        this.session = session;
+    }
+
+    public CompletableFuture<Response> initGuestCheckout() {
+        return JdkHttpBackend.post(session, ApiRoutes.GUEST_CHECKOUT, Map.of()).thenApply(AsyncCheckoutApi::html200);
+    }
+
+    public CompletableFuture<Response> initAuthCheckout() {
+        return JdkHttpBackend.post(session, ApiRoutes.AUTH_CHECKOUT, Map.of()).thenApply(AsyncCheckoutApi::html200);
+    }
+
+    public CompletableFuture<Response> fillAddressDetails(AddressType type, String firstName, String lastName, String email, String telephone,
+                                                          String address1, String city, String postcode,
+                                                          String country_id, String region_id) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("firstname", firstName);
+        form.put("lastname", lastName);
+        form.put("email", email);
+        form.put("telephone", telephone);
+        form.put("address_1", address1);
+        form.put("city", city);
+        form.put("postcode", postcode);
+        form.put("country_id", country_id);
+        form.put("zone_id", region_id);
+        return JdkHttpBackend.post(session, String.format(ApiRoutes.ADDRESS_CHECKOUT, type.getRoute()), form);
+    }
+
+    public CompletableFuture<Response> selectShippingMethod(String method) {
+        return fetchShippingMethods().thenCompose(ignored -> saveShippingMethod(method));
+    }
+
+    public CompletableFuture<Response> selectPaymentMethod(String method) {
+        return fetchPaymentMethods().thenCompose(ignored -> savePaymentMethod(method));
+    }
+
+    public CompletableFuture<Response> confirmOrder() {
+        return JdkHttpBackend.post(session, ApiRoutes.CONFIRM_ORDER, Map.of()).thenApply(AsyncCheckoutApi::html200);
+    }
+
+    public CompletableFuture<Response> placeOrder() {
+        return JdkHttpBackend.get(session, ApiRoutes.PLACE_ORDER).thenApply(AsyncCheckoutApi::html200);
+    }
+
+    private CompletableFuture<Response> fetchShippingMethods() {
+        return JdkHttpBackend.get(session, ApiRoutes.SHIPPING_METHOD_GET).thenApply(AsyncCheckoutApi::html200);
+    }
+
+    private CompletableFuture<Response> fetchPaymentMethods() {
+        return JdkHttpBackend.get(session, ApiRoutes.PAYMENT_METHOD_GET).thenApply(AsyncCheckoutApi::html200);
+    }
+
+    private CompletableFuture<Response> saveShippingMethod(String method) {
+        return JdkHttpBackend.post(session, ApiRoutes.SHIPPING_METHOD_SAVE,
+                        Map.of("shipping_method", method, "comment", "Fast shipping"))
+                .thenApply(AsyncCheckoutApi::json200);
+    }
+
+    private CompletableFuture<Response> savePaymentMethod(String method) {
+        return JdkHttpBackend.post(session, ApiRoutes.PAYMENT_METHOD_SAVE,
+                        Map.of("payment_method", method, "agree", "1", "comment", "Fast shipping"))
+                .thenApply(AsyncCheckoutApi::json200);
+    }
+
+    private static Response html200(Response response) {
+        return JdkHttpBackend.expect(response, SpecFactory.htmlResponseWithStatus(200));
+    }
+
+    private static Response json200(Response response) {
+        return JdkHttpBackend.expect(response, SpecFactory.jsonResponseWithStatus(200));
+    }
+}
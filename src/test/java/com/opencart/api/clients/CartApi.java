@@ -1,37 +1,74 @@
 package com.opencart.api.clients;
 
+import com.opencart.api.enums.ApiBackend;
+import com.opencart.api.models.CartItem;
+import com.opencart.api.models.CartLine;
+import com.opencart.api.models.CartState;
+import com.opencart.utils.JdkHttpBackend;
+import com.opencart.utils.SessionManager;
 import com.opencart.utils.SpecFactory;
-import io.restassured.filter.cookie.CookieFilter;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class CartApi {
 
-    private final CookieFilter cookieFilter;
+    private static final Pattern PRODUCT_ID = Pattern.compile("product_id=(\\d+)");
+    private static final String EMPTY_CART_MESSAGE = "Your shopping cart is empty!";
 
-    public CartApi(CookieFilter cookieFilter) {
-        this.cookieFilter = cookieFilter;
+    private final SessionManager session;
+    // Set when api.backend=jdk: every call then goes through the asynchronous client
+    private final AsyncCartApi async;
+    // Scenario-scoped like this client; dropped by every call that changes the cart
+    private CartState snapshot;
+    // Product id → key of its first cart line in this client's session, filled by cart scans and snapshots
+    private final Map<Integer, String> cartKeys = new HashMap<>();
+
+    public CartApi(SessionManager session) {
+        this.session = session;
+        this.async = ApiBackend.configured() == ApiBackend.JDK ? new AsyncCartApi(session) : null;
     }
 
     public Response getCart() {
+        if (async != null) return JdkHttpBackend.await(async.getCart());
         return SpecFactory
-                .getRequestSpec(cookieFilter)
+                .getRequestSpec(session)
                 .get(ApiRoutes.CART);
     }
 
     public Response addToCart(int productId, int quantity) {
+        return addToCart(productId, quantity, Map.of());
+    }
+
+    /**
+     * Adds a product with option form fields, e.g. {@code option[217]=13} for a size (see {@link CatalogApi}).
+     */
+    public Response addToCart(int productId, int quantity, Map<String, String> options) {
+        dropSnapshot();
+        // The response carries no cart key. Without options the product joins its existing line, whose
+        // key stays valid; with options it may get a line of its own, so the indexed key is dropped
+        if (!options.isEmpty()) {
+            cartKeys.remove(productId);
+        }
+        if (async != null) return JdkHttpBackend.await(async.addToCart(productId, quantity, options));
         return SpecFactory
-                .getFormRequestSpec(cookieFilter)
+                .getFormRequestSpec(session)
                 .accept(ContentType.JSON)
                 .header("X-Requested-With", "XMLHttpRequest")
                 .formParam("product_id", productId)
                 .formParam("quantity", quantity)
+                .formParams(options)
                 .post(ApiRoutes.ADD_CART)
                 .then()
                 .spec(SpecFactory.jsonResponseWithStatus(200))
@@ -40,8 +77,11 @@ public class CartApi {
     }
 
     public Response removeFromCart(String key) {
+        dropSnapshot();
+        cartKeys.values().removeIf(key::equals);
+        if (async != null) return JdkHttpBackend.await(async.removeFromCart(key));
         return SpecFactory
-                .getFormRequestSpec(cookieFilter)
+                .getFormRequestSpec(session)
                 .formParam("key", key)
                 .post(ApiRoutes.REMOVE_CART);
     }
@@ -52,33 +92,126 @@ public class CartApi {
     }
 
     public void removeAllItems() {
-        Matcher matcher = Pattern.compile("name=\"quantity\\[(.*?)\\]\"").matcher(getCart().asString());
-
-        while (matcher.find()) {
-            String key = matcher.group(1);
-            removeFromCart(key);
+        dropSnapshot();
+        if (async != null) {
+            JdkHttpBackend.await(async.removeAllItems());
+        } else {
+            for (CartLine line : getCartLines()) {
+                removeFromCart(line.key());
+            }
         }
+        cartKeys.clear();
     }
 
     public void updateQuantity(int productId, int newQty) {
         String key = extractCartItemKey(productId);
+        updateQuantity(key, newQty);
+    }
 
-        SpecFactory
-                .getFormRequestSpec(cookieFilter)
+    /**
+     * Sets the quantity of one cart line; the line keeps its key unless the quantity drops to zero,
+     * which removes it.
+     */
+    public Response updateQuantity(String key, int newQty) {
+        dropSnapshot();
+        if (newQty <= 0) {
+            cartKeys.values().removeIf(key::equals);
+        }
+        if (async != null) return JdkHttpBackend.await(async.updateQuantity(key, newQty));
+        return SpecFactory
+                .getFormRequestSpec(session)
                 .formParam("quantity[" + key + "]", newQty)
                 .post(ApiRoutes.EDIT_CART);
     }
 
-    public String extractCartItemKey(int productId) {
-        String html = getCart().asString();
-        Document doc = Jsoup.parse(html);
-        Element input = doc.selectFirst("input[name^=quantity][value][name*=quantity][value=1]");
-        if (input != null) {
-            String nameAttr = input.attr("name"); // example: quantity[379320]
-            return nameAttr.substring(nameAttr.indexOf('[') + 1, nameAttr.indexOf(']'));
+    /**
+     * The cart parsed into a {@link CartState} with one fetch, reused until this client changes the
+     * cart or {@link #invalidateSnapshot()} is called, so a block of assertions costs one request.
+     */
+    public CartState snapshot() {
+        if (snapshot == null) {
+            Response page = getCart()
+                    .then()
+                    .spec(SpecFactory.htmlResponseWithStatus(200))
+                    .extract()
+                    .response();
+            snapshot = parseState(page.asString());
+            cartKeys.clear();
+            snapshot.items().forEach(item -> cartKeys.putIfAbsent(item.productId(), item.key()));
         }
-        throw new RuntimeException("Cart item key not found for product ID: " + productId);
+        return snapshot;
+    }
+
+    /**
+     * Forgets the snapshot and the cart-key index, e.g. after the cart changed through another client such as checkout.
+     */
+    public void invalidateSnapshot() {
+        dropSnapshot();
+        cartKeys.clear();
     }
 
+    private void dropSnapshot() {
+        snapshot = null;
+    }
 
+    /**
+     * Key of the product's cart line from the index; only a product the index doesn't know costs a
+     * cart scan, which refreshes the index for every product in the cart.
+     */
+    public String extractCartItemKey(int productId) {
+        String key = cartKeys.get(productId);
+        return key != null ? key : keyOf(getCartLines(), productId);
+    }
+
+    /**
+     * Lines of the current cart, scanned from the cart page as it streams in (see {@link CartKeyScanner}).
+     */
+    public List<CartLine> getCartLines() {
+        List<CartLine> lines = async != null
+                ? JdkHttpBackend.await(async.getCartLines())
+                : CartKeyScanner.scan(getCart().asInputStream());
+        indexKeys(lines);
+        return lines;
+    }
+
+    private void indexKeys(List<CartLine> lines) {
+        cartKeys.clear();
+        lines.forEach(line -> cartKeys.putIfAbsent(line.productId(), line.key()));
+    }
+
+    static String keyOf(List<CartLine> lines, int productId) {
+        return lines.stream()
+                .filter(line -> line.productId() == productId)
+                .map(CartLine::key)
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("❌ Cart item key not found for product ID: " + productId));
+    }
+
+    static CartState parseState(String html) {
+        Document page = Jsoup.parse(html);
+
+        List<CartItem> items = new ArrayList<>();
+        for (Element row : page.select("#content form table tbody tr")) {
+            Elements cells = row.children();
+            Element input = row.selectFirst("input[name^=quantity]");
+            Element link = cells.size() < 6 ? null : cells.get(1).selectFirst("a[href]");
+            Matcher productId = PRODUCT_ID.matcher(link == null ? "" : link.attr("href"));
+            if (input == null || !productId.find()) {
+                continue;
+            }
+            String name = input.attr("name"); // example: quantity[379320]
+            items.add(new CartItem(Integer.parseInt(productId.group(1)), name.substring(name.indexOf('[') + 1, name.indexOf(']')),
+                    Integer.parseInt(input.val().trim()), cells.get(4).text().trim(), cells.get(5).text().trim()));
+        }
+
+        Map<String, String> totals = new LinkedHashMap<>();
+        for (Element row : page.select("#content tr")) {
+            Element label = row.selectFirst("td strong");
+            if (label == null || row.parents().is("form")) {
+                continue;
+            }
+            totals.put(label.text().trim().replaceAll(":$", ""), row.children().last().text().trim());
+        }
+        return new CartState(List.copyOf(items), totals, page.select("#content").text().contains(EMPTY_CART_MESSAGE));
+    }
 }
@@ -0,0 +1,136 @@
+package com.opencart.api.clients;
+
+import com.opencart.api.models.CartLine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass scanner for the cart lines of the cart page. It reads the body as a stream, pairs
+ * each {@code quantity[key]} input with the last {@code product_id=} link before it (the line's own
+ * product link) and stops at the end of the cart table, so neither the page nor the rest of the
+ * download is ever held as a String.
+ */
+final class CartKeyScanner {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Literal productId = new Literal("product_id=");
+    private final Literal quantityInput = new Literal("name=\"quantity[");
+    private final Literal valueAttribute = new Literal("value=\"");
+    private final Literal tableEnd = new Literal("</table>");
+
+    private final List<CartLine> lines = new ArrayList<>();
+    private final StringBuilder token = new StringBuilder();
+
+    private CartKeyScanner() {
+    }
+
+    /**
+     * Lines of the cart page in table order; empty for an empty cart.
+     */
+    static List<CartLine> scan(InputStream body) {
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return new CartKeyScanner().read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("❌ Could not read the cart page", e);
+        }
+    }
+
+    private List<CartLine> read(Reader reader) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        int lastProductId = -1;
+        String pendingKey = null;
+        Token reading = Token.NONE;
+
+        for (int count = reader.read(buffer); count != -1; count = reader.read(buffer)) {
+            for (int i = 0; i < count; i++) {
+                char c = buffer[i];
+                if (reading == Token.PRODUCT_ID && Character.isDigit(c)
+                        || reading == Token.KEY && c != ']'
+                        || reading == Token.QUANTITY && c != '"') {
+                    token.append(c);
+                    continue;
+                }
+                switch (reading) {
+                    case PRODUCT_ID -> lastProductId = token.isEmpty() ? lastProductId : Integer.parseInt(token.toString());
+                    case KEY -> pendingKey = token.toString();
+                    case QUANTITY -> {
+                        lines.add(new CartLine(lastProductId, pendingKey, Integer.parseInt(token.toString().trim())));
+                        pendingKey = null;
+                    }
+                    case NONE -> {
+                    }
+                }
+                reading = Token.NONE;
+
+                // Every matcher sees every char outside a token
+                boolean productLink = productId.accept(c);
+                boolean quantity = quantityInput.accept(c);
+                boolean value = valueAttribute.accept(c);
+                boolean tableClosed = tableEnd.accept(c);
+                if (productLink) {
+                    reading = start(Token.PRODUCT_ID);
+                } else if (quantity) {
+                    reading = start(Token.KEY);
+                } else if (value && pendingKey != null) {
+                    reading = start(Token.QUANTITY);
+                } else if (tableClosed && !lines.isEmpty()) {
+                    // The header's mini cart has tables too, but no quantity inputs
+                    return lines;
+                }
+            }
+        }
+        return lines;
+    }
+
+    private Token start(Token kind) {
+        token.setLength(0);
+        return kind;
+    }
+
+    private enum Token { NONE, PRODUCT_ID, KEY, QUANTITY }
+
+    /**
+     * Incremental (KMP) matcher for one literal: fed one char at a time, reports when the literal ends.
+     */
+    private static final class Literal {
+        private final char[] text;
+        private final int[] fallback;
+        private int matched;
+
+        private Literal(String literal) {
+            text = literal.toCharArray();
+            fallback = new int[text.length];
+            for (int i = 1, k = 0; i < text.length; i++) {
+                while (k > 0 && text[i] != text[k]) {
+                    k = fallback[k - 1];
+                }
+                if (text[i] == text[k]) {
+                    k++;
+                }
+                fallback[i] = k;
+            }
+        }
+
+        private boolean accept(char c) {
+            while (matched > 0 && c != text[matched]) {
+                matched = fallback[matched - 1];
+            }
+            if (c == text[matched]) {
+                matched++;
+            }
+            if (matched == text.length) {
+                matched = 0;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.opencart.api.clients;
+
+import com.opencart.utils.SessionManager;
+import com.opencart.utils.SpecFactory;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Read-only catalog lookups (product ids, option values) parsed from the storefront pages.
+ * The catalog doesn't change during a run, so results are cached per host.
+ */
+public class CatalogApi {
+
+    private static final Pattern PRODUCT_ID = Pattern.compile("product_id=(\\d+)");
+
+    private static final Map<String, Integer> productIds = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, String>> selectOptions = new ConcurrentHashMap<>();
+
+    private final SessionManager session;
+
+    public CatalogApi(SessionManager session) {
+        this.session = session;
+    }
+
+    /**
+     * Id of the product whose name matches exactly (ignoring case) in the search results.
+     */
+    public int findProductId(String productName) {
+        return productIds.computeIfAbsent(session.getBaseUri() + "|" + productName.toLowerCase(), key -> {
+            Document results = Jsoup.parse(SpecFactory.getRequestSpec(session)
+                    .queryParam("search", productName)
+                    .get(ApiRoutes.SEARCH)
+                    .asString());
+            for (Element link : results.select(".product-thumb h4 a")) {
+                Matcher matcher = PRODUCT_ID.matcher(link.attr("href"));
+                if (link.text().trim().equalsIgnoreCase(productName) && matcher.find()) {
+                    return Integer.parseInt(matcher.group(1));
+                }
+            }
+            throw new RuntimeException("❌ Product not found in search results: " + productName);
+        });
+    }
+
+    /**
+     * Form field selecting {@code label} in the product's first dropdown option, e.g.
+     * {@code {"option[217]": "13"}}; empty when the product has no dropdown.
+     */
+    public Map<String, String> findSelectOption(int productId, String label) {
+        return selectOptions.computeIfAbsent(session.getBaseUri() + "|" + productId + "|" + label.toLowerCase(), key -> {
+            Document page = Jsoup.parse(SpecFactory.getRequestSpec(session)
+                    .queryParam("product_id", productId)
+                    .get(ApiRoutes.PRODUCT)
+                    .asString());
+            Element select = page.selectFirst("select[name^=option]");
+            if (select == null) {
+                return Map.of();
+            }
+            for (Element option : select.select("option[value]")) {
+                // Labels may carry a price suffix, e.g. "Medium (+$12.00)"
+                if (!option.val().isEmpty() && option.text().trim().toLowerCase().startsWith(label.toLowerCase())) {
+                    return Map.of(select.attr("name"), option.val());
+                }
+            }
+            throw new RuntimeException("❌ Option '" + label + "' not offered for product " + productId);
+        });
+    }
+}
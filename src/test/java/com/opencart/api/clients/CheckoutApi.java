@@ -1,21 +1,27 @@
 package com.opencart.api.clients;
 
 import com.opencart.api.enums.AddressType;
+import com.opencart.api.enums.ApiBackend;
+import com.opencart.utils.JdkHttpBackend;
+import com.opencart.utils.SessionManager;
 import com.opencart.utils.SpecFactory;
-import io.restassured.filter.cookie.CookieFilter;
 import io.restassured.response.Response;
 
 public class CheckoutApi {
 
-    private final CookieFilter cookieFilter;
+    private final SessionManager session;
+    // Set when api.backend=jdk: every call then goes through the asynchronous client
+    private final AsyncCheckoutApi async;
 
-    public CheckoutApi(CookieFilter cookieFilter) {
-        this.cookieFilter = cookieFilter;
+    public CheckoutApi(SessionManager session) {
+        this.session = session;
+        this.async = ApiBackend.configured() == ApiBackend.JDK ? new AsyncCheckoutApi(session) : null;
     }
 
     public Response initGuestCheckout() {
+        if (async != null) return JdkHttpBackend.await(async.initGuestCheckout());
         return SpecFactory
-                .getRequestSpec(cookieFilter)
+                .getRequestSpec(session)
                 .post(ApiRoutes.GUEST_CHECKOUT)
                 .then()
                 .spec(SpecFactory.htmlResponseWithStatus(200))
@@ -23,8 +29,9 @@ public class CheckoutApi {
     }
 
     public Response initAuthCheckout() {
+        if (async != null) return JdkHttpBackend.await(async.initAuthCheckout());
         return SpecFactory
-                .getRequestSpec(cookieFilter)
+                .getRequestSpec(session)
                 .post(ApiRoutes.AUTH_CHECKOUT)
                 .then()
                 .spec(SpecFactory.htmlResponseWithStatus(200))
@@ -34,9 +41,11 @@ public class CheckoutApi {
     public Response fillAddressDetails(AddressType type, String firstName, String lastName, String email, String telephone,
                                        String address1, String city, String postcode,
                                        String country_id, String region_id) {
+        if (async != null) return JdkHttpBackend.await(async.fillAddressDetails(type, firstName, lastName, email, telephone,
+                address1, city, postcode, country_id, region_id));
 
         return SpecFactory
-                .getFormRequestSpec(cookieFilter)
+                .getFormRequestSpec(session)
                 .formParam("firstname", firstName)
                 .formParam("lastname", lastName)
                 .formParam("email", email)
@@ -50,15 +59,16 @@ public class CheckoutApi {
     }
 
     public Response selectShippingMethod(String method) {
+        if (async != null) return JdkHttpBackend.await(async.selectShippingMethod(method));
         // Step 1: Get available shipping methods
         SpecFactory
-                .getRequestSpec(cookieFilter)
+                .getRequestSpec(session)
                 .get(ApiRoutes.SHIPPING_METHOD_GET)
                 .then()
                 .spec(SpecFactory.htmlResponseWithStatus(200));
         // Step 2: Save selected shipping
         return SpecFactory
-                .getFormRequestSpec(cookieFilter)
+                .getFormRequestSpec(session)
                 .formParam("shipping_method", method)
                 .formParam("comment", "Fast shipping")
                 .post(ApiRoutes.SHIPPING_METHOD_SAVE)
@@ -68,15 +78,16 @@ public class CheckoutApi {
     }
 
     public Response selectPaymentMethod(String method) {
+        if (async != null) return JdkHttpBackend.await(async.selectPaymentMethod(method));
         // Step 1: Get available payment methods
         SpecFactory
-                .getRequestSpec(cookieFilter)
+                .getRequestSpec(session)
                 .get(ApiRoutes.PAYMENT_METHOD_GET)
                 .then()
                 .spec(SpecFactory.htmlResponseWithStatus(200));
         // Step 2: Save selected payment
         return SpecFactory
-                .getFormRequestSpec(cookieFilter)
+                .getFormRequestSpec(session)
                 .formParam("payment_method", method)
                 .formParam("agree", "1")
                 .formParam("comment", "Fast shipping")
@@ -87,8 +98,9 @@ public class CheckoutApi {
     }
 
     public Response confirmOrder() {
+        if (async != null) return JdkHttpBackend.await(async.confirmOrder());
         return SpecFactory
-                .getRequestSpec(cookieFilter)
+                .getRequestSpec(session)
                 .post(ApiRoutes.CONFIRM_ORDER)
                 .then()
                 .spec(SpecFactory.htmlResponseWithStatus(200))
@@ -96,8 +108,9 @@ public class CheckoutApi {
     }
 
     public Response placeOrder() {
+        if (async != null) return JdkHttpBackend.await(async.placeOrder());
         return SpecFactory
-                .getRequestSpec(cookieFilter)
+                .getRequestSpec(session)
                 .get(ApiRoutes.PLACE_ORDER)
                 .then()
                 .spec(SpecFactory.htmlResponseWithStatus(200))
@@ -0,0 +1,95 @@
+package com.opencart.api.clients;
+
+import com.opencart.utils.JdkHttpBackend;
+import com.opencart.utils.SessionManager;
+import com.opencart.utils.SpecFactory;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class WishlistApi {
+
+    // Each wishlist row links to account/wishlist&remove={product_id}
+    private static final Pattern REMOVE_LINK = Pattern.compile("remove=(\\d+)");
+
+    // Removals block on HTTP, so they get their own virtual threads instead of the common ForkJoinPool
+    private static final ExecutorService removers = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final SessionManager session;
+
+    public WishlistApi(SessionManager session) {
+        this.session = session;
+    }
+
+    public Response getWishlist() {
+        return SpecFactory
+                .getRequestSpec(session)
+                .get(ApiRoutes.WISHLIST);
+    }
+
+    /**
+     * Product ids currently in the wishlist, in page order.
+     */
+    public List<Integer> getProductIds() {
+        Set<Integer> ids = new LinkedHashSet<>();
+        Matcher matcher = REMOVE_LINK.matcher(getWishlist().asString());
+        while (matcher.find()) {
+            ids.add(Integer.parseInt(matcher.group(1)));
+        }
+        return new ArrayList<>(ids);
+    }
+
+    public Response addToWishlist(int productId) {
+        return SpecFactory
+                .getFormRequestSpec(session)
+                .accept(ContentType.JSON)
+                .header("X-Requested-With", "XMLHttpRequest")
+                .formParam("product_id", productId)
+                .post(ApiRoutes.ADD_WISHLIST)
+                .then()
+                .spec(SpecFactory.jsonResponseWithStatus(200))
+                .extract()
+                .response();
+    }
+
+    public Response removeFromWishlist(int productId) {
+        return SpecFactory
+                .getRequestSpec(session)
+                .queryParam("remove", productId)
+                .get(ApiRoutes.WISHLIST);
+    }
+
+    /**
+     * Removes the given products concurrently; each removal is an independent request. Throws if
+     * any removal was not accepted, e.g. because the session is not logged in.
+     */
+    public void removeAll(List<Integer> productIds) {
+        List<CompletableFuture<Response>> removals = productIds.stream()
+                .map(productId -> CompletableFuture.supplyAsync(() -> removeFromWishlist(productId), removers))
+                .toList();
+        for (int i = 0; i < removals.size(); i++) {
+            expectRemoved(productIds.get(i), JdkHttpBackend.await(removals.get(i)));
+        }
+    }
+
+    /**
+     * A removal redirects back to the wishlist; a redirect to account/login means the session was
+     * not logged in and nothing was removed.
+     */
+    private static void expectRemoved(int productId, Response response) {
+        String location = response.getHeader("Location");
+        if (response.statusCode() != 302 || location == null || location.contains("account/login")) {
+            throw new RuntimeException("❌ Wishlist removal of product " + productId + " not accepted (status "
+                    + response.statusCode() + ", Location " + location + ")");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.opencart.api.context;
+
+import io.restassured.response.Response;
+
+/**
+ * State shared by the step definition classes of one scenario. Injected by
+ * {@link ScenarioObjectFactory}, so each scenario (and each thread) has its own.
+ */
+public class ScenarioContext {
+
+    private Response response;
+
+    public Response getResponse() {
+        return response;
+    }
+
+    public void setResponse(Response response) {
+        this.response = response;
+    }
+}
@@ -0,0 +1,78 @@
+package com.opencart.api.context;
+
+import io.cucumber.core.backend.ObjectFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Scenario-scoped constructor injection for glue code. Every class is instantiated at most once per
+ * scenario and its constructor parameters are resolved from the same scope, so hooks, step
+ * definitions and API clients share one {@link com.opencart.utils.SessionManager} per scenario.
+ * Cucumber keeps one factory per runner thread, so no synchronization is needed.
+ */
+public class ScenarioObjectFactory implements ObjectFactory {
+
+    private final Map<Class<?>, Object> instances = new HashMap<>();
+    private final Deque<Class<?>> creating = new ArrayDeque<>();
+
+    @Override
+    public void start() {
+        instances.clear();
+    }
+
+    @Override
+    public void stop() {
+        instances.clear();
+    }
+
+    @Override
+    public boolean addClass(Class<?> glueClass) {
+        return true;
+    }
+
+    @Override
+    public <T> T getInstance(Class<T> type) {
+        Object instance = instances.get(type);
+        if (instance == null) {
+            instance = create(type);
+            instances.put(type, instance);
+        }
+        return type.cast(instance);
+    }
+
+    private Object create(Class<?> type) {
+        if (creating.contains(type)) {
+            throw new RuntimeException("❌ Circular dependency while creating " + type.getName() + ": " + creating);
+        }
+        Constructor<?> constructor = injectableConstructor(type);
+        creating.push(type);
+        try {
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            Object[] arguments = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                arguments[i] = getInstance(parameterTypes[i]);
+            }
+            return constructor.newInstance(arguments);
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException("❌ Constructor of " + type.getName() + " failed", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("❌ Cannot instantiate " + type.getName(), e);
+        } finally {
+            creating.pop();
+        }
+    }
+
+    private static Constructor<?> injectableConstructor(Class<?> type) {
+        Constructor<?>[] constructors = type.getConstructors();
+        if (constructors.length != 1) {
+            throw new RuntimeException("❌ " + type.getName() + " needs exactly one public constructor for injection, found "
+                    + constructors.length);
+        }
+        return constructors[0];
+    }
+}
@@ -0,0 +1,16 @@
+package com.opencart.api.enums;
+
+import com.opencart.utils.ConfigReader;
+
+/**
+ * HTTP stack behind the API clients, chosen with api.backend: RestAssured (blocking, default)
+ * or the JDK HttpClient (asynchronous, see {@link com.opencart.utils.JdkHttpBackend}).
+ */
+public enum ApiBackend {
+    RESTASSURED,
+    JDK;
+
+    private static final ApiBackend CONFIGURED = valueOf(ConfigReader.getProperty("api.backend", "restassured").toUpperCase());
+
+    public static ApiBackend configured() { return CONFIGURED; }
+}
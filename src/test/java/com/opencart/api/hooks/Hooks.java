@@ -1,32 +1,39 @@
 package com.opencart.api.hooks;
 
-import com.opencart.api.clients.CartApi;
 import com.opencart.utils.SessionManager;
+import com.opencart.utils.UserPoolManager;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
-import io.restassured.RestAssured;
 
 public class Hooks {
-    @Before(order = 0)
-    public void baseSetup() {
-        RestAssured.useRelaxedHTTPSValidation();
-        SessionManager.resetSession();
+    private final SessionManager session;
+
+    // Injected per scenario by ScenarioObjectFactory, shared with the step definitions
+    public Hooks(SessionManager session) {
+        this.session = session;
     }
 
     @Before(value = "@account or @auth", order = 1)
     public void beforeAuth() {
-        SessionManager.initLoggedSession();
-        new CartApi(SessionManager.getCookieFilter()).removeAllItems();
+        // Logged in with an empty cart, usually prepared in the background by AuthSessionPool
+        session.initLoggedSession();
     }
 
     @Before(value = "@guest", order = 1)
     public void beforeGuest() {
-        SessionManager.startGuestSession();
+        session.startGuestSession();
     }
 
     @After(value = "@account or @auth")
     public void afterAuth() {
-        if (SessionManager.isAuthenticated()) SessionManager.logout();
+        // Kept logged in for the user's next scenario instead of a logout/login round trip
+        if (session.isAuthenticated()) session.release();
+    }
+
+    @After(order = 0)
+    public void releaseUser() {
+        // Runs last: frees the lease even when login or logout failed
+        UserPoolManager.releaseUser();
     }
 
 
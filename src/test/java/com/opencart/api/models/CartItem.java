@@ -0,0 +1,7 @@
+package com.opencart.api.models;
+
+/**
+ * One product line of the cart page with its prices, kept in storefront formatting (e.g. "$100.00").
+ */
+public record CartItem(int productId, String key, int quantity, String unitPrice, String totalPrice) {
+}
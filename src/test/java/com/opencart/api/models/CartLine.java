@@ -0,0 +1,7 @@
+package com.opencart.api.models;
+
+/**
+ * One product line of the cart page: the product, its cart key (the {@code quantity[key]} input) and quantity.
+ */
+public record CartLine(int productId, String key, int quantity) {
+}
@@ -0,0 +1,29 @@
+package com.opencart.api.models;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The cart page parsed once: product lines in table order plus the totals block, keyed by label
+ * without the trailing colon ("Sub-Total", "Eco Tax (-2.00)", "VAT (20%)", "Total"), and whether
+ * the page showed "Your shopping cart is empty!".
+ */
+public record CartState(List<CartItem> items, Map<String, String> totals, boolean emptyMessageShown) {
+
+    public Optional<CartItem> item(int productId) {
+        return items.stream().filter(item -> item.productId() == productId).findFirst();
+    }
+
+    public String total(String label) {
+        String value = totals.get(label);
+        if (value == null) {
+            throw new IllegalStateException("❌ Cart total not found: " + label + " (have " + totals.keySet() + ")");
+        }
+        return value;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
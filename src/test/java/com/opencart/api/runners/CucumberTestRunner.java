@@ -1,5 +1,6 @@
 package com.opencart.api.runners;
 
+import com.opencart.api.context.ScenarioObjectFactory;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
 import org.testng.annotations.DataProvider;
@@ -7,12 +8,20 @@ import org.testng.annotations.DataProvider;
 @CucumberOptions(
         features = "src/test/resources/features",
         glue = {"com.opencart.api.stepdefinitions", "com.opencart.api.hooks"},
+        objectFactory = ScenarioObjectFactory.class,
         plugin = {
                 "pretty",
                 "html:target/cucumber-reports",
-                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm"
+                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
+                "com.opencart.listeners.ScenarioTimingPlugin"
         }
 )
 public class CucumberTestRunner extends AbstractTestNGCucumberTests {
 
+    // Pool size is the suite's data-provider-thread-count, set from cucumber.threads by CucumberParallelismListener
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return super.scenarios();
+    }
 }
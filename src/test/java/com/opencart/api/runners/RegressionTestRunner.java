@@ -1,15 +1,23 @@
 package com.opencart.api.runners;
 
+import com.opencart.api.context.ScenarioObjectFactory;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
+import org.testng.annotations.DataProvider;
 
 @CucumberOptions(
         tags = "@regression",
         features = "src/test/resources/features",
         glue = {"com.opencart.api.stepdefinitions", "com.opencart.api.hooks"},
-        plugin = {"pretty", "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm"}
+        objectFactory = ScenarioObjectFactory.class,
+        plugin = {"pretty", "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm", "com.opencart.listeners.ScenarioTimingPlugin"}
 )
 public class RegressionTestRunner extends AbstractTestNGCucumberTests {
-}
-
 
+    // Pool size is the suite's data-provider-thread-count, set from cucumber.threads by CucumberParallelismListener
+    @Override
+    @DataProvider(parallel = true)
+    public Object[][] scenarios() {
+        return super.scenarios();
+    }
+}
@@ -0,0 +1,97 @@
+package com.opencart.api.runners;
+
+import com.opencart.api.context.ScenarioObjectFactory;
+import com.opencart.utils.ConfigReader;
+import com.opencart.utils.UserPoolManager;
+import io.cucumber.testng.CucumberOptions;
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import io.cucumber.testng.TestNGCucumberRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs every scenario on its own virtual thread. The scenarios mostly wait on the OpenCart host,
+ * so concurrency is capped by a semaphore (api.virtualThreads.maxConcurrent) instead of a pool
+ * size. Cucumber keeps its runner, glue instances and the leased user per thread, so each scenario
+ * gets fresh ones; a lease still held when the scenario ends is reclaimed.
+ */
+@CucumberOptions(
+        features = "src/test/resources/features",
+        glue = {"com.opencart.api.stepdefinitions", "com.opencart.api.hooks"},
+        objectFactory = ScenarioObjectFactory.class,
+        plugin = {"io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm", "com.opencart.listeners.ScenarioTimingPlugin"}
+)
+public class VirtualThreadTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadTestRunner.class);
+
+    private TestNGCucumberRunner cucumber;
+
+    /**
+     * Scenarios allowed in flight at once; also the number of test users the runner can hold.
+     */
+    public static int maxConcurrentScenarios() {
+        return Math.max(1, ConfigReader.getIntProperty("api.virtualThreads.maxConcurrent", 8));
+    }
+
+    @BeforeClass(alwaysRun = true)
+    public void setUpClass() {
+        cucumber = new TestNGCucumberRunner(getClass());
+    }
+
+    @Test(groups = "cucumber", description = "Runs all scenarios on virtual threads")
+    public void runScenarios() {
+        Object[][] scenarios = cucumber.provideScenarios();
+        Semaphore permits = new Semaphore(maxConcurrentScenarios());
+        List<String> failures = new CopyOnWriteArrayList<>();
+        AtomicInteger skipped = new AtomicInteger();
+
+        logger.info("🧵 Running {} scenario(s) on virtual threads, at most {} at once", scenarios.length, maxConcurrentScenarios());
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("api-vt-", 1).factory())) {
+            for (Object[] scenario : scenarios) {
+                Pickle pickle = ((PickleWrapper) scenario[0]).getPickle();
+                executor.submit(() -> runScenario(pickle, permits, failures, skipped));
+            }
+        }
+
+        logger.info("🧵 Virtual-thread run finished: {} failed, {} skipped of {}", failures.size(), skipped.get(), scenarios.length);
+        if (!failures.isEmpty()) {
+            throw new AssertionError(failures.size() + " scenario(s) failed:\n" + String.join("\n", failures));
+        }
+    }
+
+    private void runScenario(Pickle pickle, Semaphore permits, List<String> failures, AtomicInteger skipped) {
+        String name = pickle.getUri() + ":" + pickle.getScenarioLine() + " " + pickle.getName();
+        permits.acquireUninterruptibly();
+        try {
+            cucumber.runScenario(pickle);
+        } catch (SkipException e) {
+            skipped.incrementAndGet();
+        } catch (Throwable t) {
+            logger.error("❌ Scenario failed: {}", name, t);
+            failures.add(name + " → " + t.getMessage());
+        } finally {
+            UserPoolManager.reclaimCurrentThread("still held after scenario " + name);
+            permits.release();
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDownClass() {
+        if (cucumber != null) {
+            cucumber.finish();
+        }
+    }
+}
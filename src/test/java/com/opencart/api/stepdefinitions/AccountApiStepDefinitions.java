@@ -1,7 +1,7 @@
 package com.opencart.api.stepdefinitions;
 
 import com.opencart.api.clients.AccountApi;
-import com.opencart.utils.SessionManager;
+import com.opencart.api.context.ScenarioContext;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
@@ -18,19 +18,24 @@ import static org.hamcrest.Matchers.containsString;
 public class AccountApiStepDefinitions extends BaseApiStepDefinitions {
 
     private static final Logger logger = LoggerFactory.getLogger(AccountApiStepDefinitions.class);
-    private final AccountApi accountApi = new AccountApi(SessionManager.getCookieFilter());
+    private final AccountApi accountApi;
+
+    public AccountApiStepDefinitions(ScenarioContext context, AccountApi accountApi) {
+        super(context);
+        this.accountApi = accountApi;
+    }
 
     @When("I send a GET request to {string}")
     public void i_send_a_get_request_to(String endpoint) {
         logger.info("➡️ Sending GET request to endpoint: {}", endpoint);
-        response = accountApi.sendGETRequest(endpoint);
-        logger.debug("📥 Response: {}", response.asString());
+        context.setResponse(accountApi.sendGETRequest(endpoint));
+        logger.debug("📥 Response: {}", context.getResponse().asString());
     }
 
     @Then("the response should contain:")
     public void the_response_should_contain(DataTable dataTable) {
         List<String> expectedStrings = dataTable.asList();
-        String responseBody = response.asString();
+        String responseBody = context.getResponse().asString();
         logger.info("🔍 Verifying response contains expected values");
         for (String expected : expectedStrings) {
             logger.debug("🔹 Checking for: {}", expected);
@@ -1,5 +1,6 @@
 package com.opencart.api.stepdefinitions;
 
+import com.opencart.api.context.ScenarioContext;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
@@ -11,11 +12,16 @@ import static org.hamcrest.Matchers.equalTo;
 
 public abstract class BaseApiStepDefinitions {
 
-    protected static Response response;
+    protected final ScenarioContext context;
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    protected BaseApiStepDefinitions(ScenarioContext context) {
+        this.context = context;
+    }
+
     @Step("Validate response status code is {expected}")
     public void validateStatusCode(int expected) {
+        Response response = context.getResponse();
         if (response == null) {
             throw new IllegalStateException("❌ No response available to validate status code.");
         }
@@ -26,6 +32,7 @@ public abstract class BaseApiStepDefinitions {
 
     @Step("Validate response body contains: {expectedText}")
     public void validateBodyContains(String expectedText) {
+        Response response = context.getResponse();
         if (response == null) {
             throw new IllegalStateException("❌ No response available to validate body.");
         }
@@ -34,6 +41,7 @@ public abstract class BaseApiStepDefinitions {
 
     @Step("Validate JSON field at path '{jsonPath}' contains: {expectedValue}")
     public void validateJsonFieldContains(String jsonPath, String expectedValue) {
+        Response response = context.getResponse();
         if (response == null) {
             throw new IllegalStateException("❌ No response available to validate Json Field.");
         }
@@ -1,7 +1,8 @@
 package com.opencart.api.stepdefinitions;
 
 import com.opencart.api.clients.CartApi;
-import com.opencart.utils.SessionManager;
+import com.opencart.api.context.ScenarioContext;
+import com.opencart.api.models.CartItem;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
@@ -9,12 +10,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
 
 public class CartApiStepDefinitions extends BaseApiStepDefinitions {
 
     private static final Logger logger = LoggerFactory.getLogger(CartApiStepDefinitions.class);
-    private final CartApi cartApi = new CartApi(SessionManager.getCookieFilter());
+    private final CartApi cartApi;
+
+    public CartApiStepDefinitions(ScenarioContext context, CartApi cartApi) {
+        super(context);
+        this.cartApi = cartApi;
+    }
 
     @Given("my cart is empty")
     public void my_cart_is_empty() {
@@ -25,20 +31,20 @@ public class CartApiStepDefinitions extends BaseApiStepDefinitions {
     @When("I view the cart")
     public void i_view_the_cart() {
         logger.info("🛒 Viewing current cart...");
-        response = cartApi.getCart();
+        context.setResponse(cartApi.getCart());
     }
 
     @When("I add product with ID {int} and quantity {int} to the cart")
     public void i_add_product_to_cart(int productId, int quantity) {
         logger.info("➕ Adding product ID {} with quantity {} to cart...", productId, quantity);
-        response = cartApi.addToCart(productId, quantity);
+        context.setResponse(cartApi.addToCart(productId, quantity));
     }
 
     @Given("the product with ID {int} and quantity {int} is in the cart")
     public void the_product_is_in_cart(int productId, int quantity) {
         logger.info("🔁 Ensuring product ID {} with quantity {} is in the cart...", productId, quantity);
         cartApi.removeAllItems();
-        response = cartApi.addToCart(productId, quantity);
+        context.setResponse(cartApi.addToCart(productId, quantity));
         validateStatusCode(200);
     }
 
@@ -63,48 +69,44 @@ public class CartApiStepDefinitions extends BaseApiStepDefinitions {
     @Then("the cart should contain product ID {int} with quantity {int}")
     public void cart_should_contain_product_with_quantity(int productId, int quantity) {
         logger.info("🔎 Verifying product ID {} with quantity {} is in the cart...", productId, quantity);
-        String html = getCartHtml();
-        assertThat(html, containsString("product_id=" + productId));
-        assertThat(html, containsString("value=\"" + quantity + "\""));
+        CartItem item = cartApi.snapshot().item(productId)
+                .orElseThrow(() -> new AssertionError("❌ Product ID " + productId + " is not in the cart"));
+        assertThat("❌ Quantity mismatch for product ID " + productId, item.quantity(), equalTo(quantity));
     }
 
     @Then("the subtotal should be {string}")
     public void subtotal_should_be(String subtotal) {
         logger.info("💰 Verifying subtotal: {}", subtotal);
-        assertCartContains("<strong>Sub-Total:</strong>", subtotal);
+        assertTotal("Sub-Total", subtotal);
     }
 
     @Then("the eco tax should be {string}")
     public void eco_tax_should_be(String ecoTax) {
         logger.info("🧾 Verifying eco tax: {}", ecoTax);
-        assertCartContains("<strong>Eco Tax (-2.00):</strong>", ecoTax);
+        assertTotal("Eco Tax (-2.00)", ecoTax);
     }
 
     @Then("the VAT should be {string}")
     public void vat_should_be(String vat) {
         logger.info("📊 Verifying VAT: {}", vat);
-        assertCartContains("<strong>VAT (20%):</strong>", vat);
+        assertTotal("VAT (20%)", vat);
     }
 
     @Then("the total should be {string}")
     public void total_should_be(String total) {
         logger.info("💸 Verifying total: {}", total);
-        assertCartContains("<strong>Total:</strong>", total);
+        assertTotal("Total", total);
     }
 
     @Then("the cart should be empty")
     public void cart_should_be_empty() {
         logger.info("🈳 Verifying the cart is empty...");
-        assertThat(getCartHtml(), containsString("Your shopping cart is empty!"));
-    }
-
-    private String getCartHtml() {
-        return cartApi.getCart().asString();
+        assertThat("❌ Cart still has items: " + cartApi.snapshot().items(), cartApi.snapshot().isEmpty(), equalTo(true));
+        assertThat("❌ Empty cart message not shown", cartApi.snapshot().emptyMessageShown(), equalTo(true));
     }
 
-    private void assertCartContains(String label, String value) {
-        String html = getCartHtml();
-        assertThat(html, containsString(label));
-        assertThat(html, containsString(value));
+    // All totals of a Then-block come from one cart snapshot
+    private void assertTotal(String label, String value) {
+        assertThat("❌ " + label + " mismatch", cartApi.snapshot().total(label), equalTo(value));
     }
 }
@@ -2,6 +2,7 @@ package com.opencart.api.stepdefinitions;
 
 import com.opencart.api.clients.CartApi;
 import com.opencart.api.clients.CheckoutApi;
+import com.opencart.api.context.ScenarioContext;
 import com.opencart.api.enums.AddressType;
 import com.opencart.utils.SessionManager;
 import io.cucumber.java.en.And;
@@ -14,13 +15,21 @@ public class CheckoutApiStepDefinitions extends BaseApiStepDefinitions {
 
     private static final Logger logger = LoggerFactory.getLogger(CheckoutApiStepDefinitions.class);
 
-    private final CheckoutApi checkoutApi = new CheckoutApi(SessionManager.getCookieFilter());
-    private final CartApi cartApi = new CartApi(SessionManager.getCookieFilter());
+    private final SessionManager session;
+    private final CheckoutApi checkoutApi;
+    private final CartApi cartApi;
+
+    public CheckoutApiStepDefinitions(ScenarioContext context, SessionManager session, CheckoutApi checkoutApi, CartApi cartApi) {
+        super(context);
+        this.session = session;
+        this.checkoutApi = checkoutApi;
+        this.cartApi = cartApi;
+    }
 
     @Given("I start a guest session")
     public void i_start_a_guest_session() {
         logger.info("🔓 Starting guest session and initializing cart...");
-        response = SessionManager.startGuestSession();
+        context.setResponse(session.startGuestSession());
     }
 
     @Given("I start authorized session")
@@ -32,7 +41,7 @@ public class CheckoutApiStepDefinitions extends BaseApiStepDefinitions {
     @And("I add product with ID {int} and quantity {int} to the cart to proceed checkout")
     public void i_add_product_to_cart(int productId, int quantity) {
         logger.info("🛒 Adding product to cart → ID: {}, Quantity: {}", productId, quantity);
-        response = cartApi.addToCart(productId, quantity);
+        context.setResponse(cartApi.addToCart(productId, quantity));
     }
 
     @When("I fill billing and delivery details")
@@ -40,7 +49,7 @@ public class CheckoutApiStepDefinitions extends BaseApiStepDefinitions {
         logger.info("📦 Filling billing and delivery details...");
         AddressType[] addressTypes;
 
-        if (SessionManager.isAuthenticated()) {
+        if (session.isAuthenticated()) {
             logger.info("🔐 Detected authorized session — filling AUTH billing and shipping...");
             checkoutApi.initAuthCheckout();
             addressTypes = new AddressType[]{
@@ -57,41 +66,43 @@ public class CheckoutApiStepDefinitions extends BaseApiStepDefinitions {
         }
 
         // Billing
-        response = checkoutApi.fillAddressDetails(
+        context.setResponse(checkoutApi.fillAddressDetails(
                 addressTypes[0],
                 "John", "Doe", "john@example.com", "123456789",
                 "123 Main St", "Almaty", "123456", "81", "1253"
-        );
+        ));
 
         // Shipping
-        response = checkoutApi.fillAddressDetails(
+        context.setResponse(checkoutApi.fillAddressDetails(
                 addressTypes[1],
                 "John", "Doe", "john@example.com", "123456789",
                 "123 Main St", "Almaty", "123456", "81", "1253"
-        );
+        ));
     }
 
     @And("I select shipping method {string}")
     public void i_select_shipping_method(String shippingMethod) {
         logger.info("🚚 Selecting shipping method: {}", shippingMethod);
-        response = checkoutApi.selectShippingMethod(shippingMethod);
+        context.setResponse(checkoutApi.selectShippingMethod(shippingMethod));
     }
 
     @And("I select payment method {string}")
     public void i_select_payment_method(String paymentMethod) {
         logger.info("💳 Selecting payment method: {}", paymentMethod);
-        response = checkoutApi.selectPaymentMethod(paymentMethod);
+        context.setResponse(checkoutApi.selectPaymentMethod(paymentMethod));
     }
 
     @And("I confirm the order")
     public void i_confirm_the_order() {
         logger.info("🧾 Confirming the order...");
-        response = checkoutApi.confirmOrder();
+        context.setResponse(checkoutApi.confirmOrder());
     }
 
     @And("the order should be successfully placed")
     public void the_order_should_be_successfully_placed() {
         logger.info("✅ Placing the order...");
-        response = checkoutApi.placeOrder();
+        context.setResponse(checkoutApi.placeOrder());
+        // The order empties the cart without going through CartApi
+        cartApi.invalidateSnapshot();
     }
 }
@@ -1,5 +1,6 @@
 package com.opencart.api.stepdefinitions;
 
+import com.opencart.api.context.ScenarioContext;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.qameta.allure.*;
@@ -11,6 +12,10 @@ import org.slf4j.LoggerFactory;
 public class CommonStepDefinitions extends BaseApiStepDefinitions {
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    public CommonStepDefinitions(ScenarioContext context) {
+        super(context);
+    }
+
     @Given("I am logged in with a valid session")
     public void i_am_logged_in_with_a_valid_session() {
         logger.info("🟢 Already logged in through Hooks");
@@ -0,0 +1,34 @@
+package com.opencart.listeners;
+
+import com.opencart.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.List;
+
+/**
+ * Sets how many Cucumber scenarios run at once. The runners hand scenarios to TestNG through a
+ * parallel data provider, whose pool size is the suite's data-provider-thread-count; this sets it
+ * from cucumber.threads (1 = serial) for suites that contain a Cucumber runner.
+ */
+public class CucumberParallelismListener implements IAlterSuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CucumberParallelismListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threads = Math.max(1, ConfigReader.getIntProperty("cucumber.threads", 4));
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : suite.getTests()) {
+                if (SuiteParallelism.runsCucumber(test)) {
+                    suite.setDataProviderThreadCount(threads);
+                    logger.info("🥒 Suite '{}' runs up to {} Cucumber scenario(s) in parallel", suite.getName(), threads);
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.opencart.listeners;
+
+import com.opencart.utils.ConfigReader;
+import com.opencart.utils.DriverFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlTest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Starts the WebDriver sessions the first wave of UI tests needs before any @BeforeMethod runs.
+ * Each UI <test> block asks for its thread-count sessions when its methods run in parallel,
+ * one otherwise; API-only blocks are ignored.
+ */
+public class DriverPrewarmListener implements ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverPrewarmListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!ConfigReader.getBooleanProperty("driverPool.prewarm", true)) {
+            logger.info("Driver pre-warm disabled");
+            return;
+        }
+
+        Map<String, Integer> sessionsPerBrowser = new LinkedHashMap<>();
+        for (XmlTest test : suite.getXmlSuite().getTests()) {
+            if (!SuiteParallelism.runsUiTests(test)) {
+                continue;
+            }
+            String browser = System.getProperty("browser", test.getParameter("browser"));
+            if (browser == null) {
+                browser = "chrome";
+            }
+            sessionsPerBrowser.merge(browser, SuiteParallelism.concurrentMethods(test), Integer::sum);
+        }
+
+        if (!sessionsPerBrowser.isEmpty()) {
+            logger.info("🔥 Pre-warming WebDriver sessions for suite '{}': {}", suite.getName(), sessionsPerBrowser);
+            DriverFactory.prewarm(sessionsPerBrowser);
+        }
+    }
+}
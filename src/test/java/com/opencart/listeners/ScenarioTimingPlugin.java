@@ -0,0 +1,91 @@
+package com.opencart.listeners;
+
+import com.opencart.utils.SuiteReport;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cucumber plugin comparing a run's wall-clock time with the serial sum of its scenario durations,
+ * per feature file and overall, i.e. what the same run takes with cucumber.threads=1.
+ * Written to target/suite-reports/cucumber-parallelism.txt.
+ */
+public class ScenarioTimingPlugin implements ConcurrentEventListener {
+
+    private static final class FeatureTiming {
+        private int scenarios;
+        private long serialMillis;
+        private Instant firstStart;
+        private Instant lastFinish;
+
+        private synchronized void add(Instant start, Instant finish) {
+            scenarios++;
+            serialMillis += Duration.between(start, finish).toMillis();
+            firstStart = firstStart == null || start.isBefore(firstStart) ? start : firstStart;
+            lastFinish = lastFinish == null || finish.isAfter(lastFinish) ? finish : lastFinish;
+        }
+
+        private long wallMillis() {
+            return Duration.between(firstStart, lastFinish).toMillis();
+        }
+    }
+
+    private final Map<String, FeatureTiming> features = new ConcurrentHashMap<>();
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+    private volatile Instant runStarted;
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, event -> runStarted = event.getInstant());
+        publisher.registerHandlerFor(TestCaseStarted.class, event -> threads.add(Thread.currentThread().getName()));
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onScenarioFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, this::onRunFinished);
+    }
+
+    private void onScenarioFinished(TestCaseFinished event) {
+        String uri = event.getTestCase().getUri().toString();
+        String feature = uri.substring(uri.lastIndexOf('/') + 1);
+        Instant finish = event.getInstant();
+        features.computeIfAbsent(feature, key -> new FeatureTiming())
+                .add(finish.minus(event.getResult().getDuration()), finish);
+    }
+
+    private void onRunFinished(TestRunFinished event) {
+        if (features.isEmpty() || runStarted == null) {
+            return;
+        }
+        long wall = Duration.between(runStarted, event.getInstant()).toMillis();
+        long serial = 0;
+        int scenarios = 0;
+
+        StringBuilder report = new StringBuilder(String.format("%-30s %9s %12s %12s %8s%n",
+                "Feature", "Scenarios", "Serial sum", "Wall clock", "Speedup"));
+        for (Map.Entry<String, FeatureTiming> entry : new TreeMap<>(features).entrySet()) {
+            FeatureTiming timing = entry.getValue();
+            serial += timing.serialMillis;
+            scenarios += timing.scenarios;
+            report.append(String.format("%-30s %9d %10dms %10dms %7.1fx%n", entry.getKey(), timing.scenarios,
+                    timing.serialMillis, timing.wallMillis(), speedup(timing.serialMillis, timing.wallMillis())));
+        }
+        report.append(String.format("%-30s %9d %10dms %10dms %7.1fx%n", "Run total", scenarios, serial, wall, speedup(serial, wall)));
+        report.append(String.format("%nScenarios ran on %d thread(s); serial sum = expected time with cucumber.threads=1%n", threads.size()));
+
+        SuiteReport.writeSection("cucumber-parallelism", report.toString());
+        SuiteReport.put("Cucumber scenarios", String.format("%d in %d ms wall clock vs %d ms serial (%.1fx on %d threads)",
+                scenarios, wall, serial, speedup(serial, wall), threads.size()));
+    }
+
+    private static double speedup(long serialMillis, long wallMillis) {
+        return wallMillis == 0 ? 1.0 : (double) serialMillis / wallMillis;
+    }
+}
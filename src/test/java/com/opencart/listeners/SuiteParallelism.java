@@ -0,0 +1,87 @@
+package com.opencart.listeners;
+
+import com.opencart.api.runners.VirtualThreadTestRunner;
+import com.opencart.ui.base.BaseTest;
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+/**
+ * Reads how much a suite file will run at once, for listeners that size shared resources up front.
+ */
+final class SuiteParallelism {
+
+    private SuiteParallelism() {
+    }
+
+    /**
+     * Methods of one <test> block that can run at the same time.
+     */
+    static int concurrentMethods(XmlTest test) {
+        XmlSuite.ParallelMode parallel = test.getParallel();
+        boolean parallelInsideTest = parallel != null && parallel.isParallel() && parallel != XmlSuite.ParallelMode.TESTS;
+        return parallelInsideTest ? Math.max(1, test.getThreadCount()) : 1;
+    }
+
+    static boolean runsUiTests(XmlTest test) {
+        return containsSubclassOf(test, BaseTest.class);
+    }
+
+    static boolean runsCucumber(XmlTest test) {
+        return containsSubclassOf(test, AbstractTestNGCucumberTests.class);
+    }
+
+    static boolean runsVirtualThreadScenarios(XmlTest test) {
+        return containsSubclassOf(test, VirtualThreadTestRunner.class);
+    }
+
+    static boolean runsUiTests(XmlSuite suite) {
+        return suite.getTests().stream().anyMatch(SuiteParallelism::runsUiTests);
+    }
+
+    static boolean runsApiScenarios(XmlSuite suite) {
+        return suite.getTests().stream().anyMatch(test -> runsCucumber(test) || runsVirtualThreadScenarios(test));
+    }
+
+    /**
+     * Scenarios of one <test> block that can run at the same time: the virtual-thread runner's
+     * semaphore, otherwise the parallel data provider's pool.
+     */
+    static int concurrentScenarios(XmlTest test) {
+        if (runsVirtualThreadScenarios(test)) {
+            return VirtualThreadTestRunner.maxConcurrentScenarios();
+        }
+        return Math.max(1, test.getSuite().getDataProviderThreadCount());
+    }
+
+    /**
+     * Test users the suite can hold at once: UI blocks need one per concurrent method, Cucumber
+     * blocks one per concurrent scenario. Blocks add up when the suite runs tests in parallel.
+     */
+    static int concurrentUsers(XmlSuite suite) {
+        int sum = 0;
+        int max = 0;
+        for (XmlTest test : suite.getTests()) {
+            int users = 0;
+            if (runsUiTests(test)) {
+                users = concurrentMethods(test);
+            } else if (runsCucumber(test) || runsVirtualThreadScenarios(test)) {
+                users = concurrentScenarios(test);
+            }
+            sum += users;
+            max = Math.max(max, users);
+        }
+        return suite.getParallel() == XmlSuite.ParallelMode.TESTS ? sum : max;
+    }
+
+    private static boolean containsSubclassOf(XmlTest test, Class<?> type) {
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            Class<?> testClass = xmlClass.getSupportClass();
+            if (testClass != null && type.isAssignableFrom(testClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,82 @@
+package com.opencart.listeners;
+
+import com.opencart.utils.ActionTimeline;
+import com.opencart.utils.CommandCounter;
+import com.opencart.utils.ConfigReader;
+import com.opencart.utils.SettleDetector;
+import io.qameta.allure.Allure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.util.List;
+
+/**
+ * Attaches the per-test metrics collected on the test thread (action timeline, settle timings,
+ * WebDriver command counts) and enforces the command budget. Samples from @BeforeMethod setup
+ * are reported with the test; anything recorded during teardown is dropped.
+ */
+public class TestMetricsListener implements IInvokedMethodListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestMetricsListener.class);
+
+    // WebDriver commands allowed per test (setup included); 0 disables the check
+    private static final int COMMAND_BUDGET = ConfigReader.getIntProperty("commandBudget.perTest", 0);
+    private static final boolean FAIL_OVER_BUDGET = ConfigReader.getProperty("commandBudget.action", "warn").equalsIgnoreCase("fail");
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            attachTimeline(ActionTimeline.drain());
+            attachSettleTimings(SettleDetector.drainSamples());
+            checkCommands(CommandCounter.drain(), testResult);
+        } else if (method.getTestMethod().isAfterMethodConfiguration()) {
+            ActionTimeline.drain();
+            SettleDetector.drainSamples();
+            CommandCounter.reset();
+        }
+    }
+
+    private void checkCommands(CommandCounter.Usage usage, ITestResult testResult) {
+        if (usage.total() == 0) {
+            return;
+        }
+        CommandCounter.countTest();
+        Allure.addAttachment("📡 WebDriver commands", usage.format());
+
+        if (COMMAND_BUDGET <= 0 || usage.total() <= COMMAND_BUDGET) {
+            return;
+        }
+        String message = String.format("%s sent %d WebDriver commands, budget is %d",
+                testResult.getMethod().getMethodName(), usage.total(), COMMAND_BUDGET);
+        if (FAIL_OVER_BUDGET && testResult.getStatus() == ITestResult.SUCCESS) {
+            logger.error("❌ {}", message);
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError(message));
+        } else {
+            logger.warn("⚠️ {}", message);
+        }
+    }
+
+    private void attachTimeline(List<ActionTimeline.ActionSpan> timeline) {
+        if (!timeline.isEmpty()) {
+            Allure.addAttachment("🕒 Action timeline", ActionTimeline.format(timeline));
+        }
+    }
+
+    private void attachSettleTimings(List<SettleDetector.Sample> samples) {
+        if (samples.isEmpty()) {
+            return;
+        }
+        long total = 0;
+        StringBuilder report = new StringBuilder();
+        for (SettleDetector.Sample sample : samples) {
+            total += sample.millis();
+            report.append(String.format("%6d ms %s %s%n", sample.millis(), sample.settled() ? " " : "!", sample.action()));
+        }
+        report.insert(0, String.format("%d settle waits, %d ms total (! = timed out)%n%n", samples.size(), total));
+        Allure.addAttachment("⏳ Settle timings", report.toString());
+    }
+}
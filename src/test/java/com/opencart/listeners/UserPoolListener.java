@@ -0,0 +1,46 @@
+package com.opencart.listeners;
+
+import com.opencart.utils.AuthSessionPool;
+import com.opencart.utils.ConfigReader;
+import com.opencart.utils.UserPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+/**
+ * Sizes the test-user pool before any test acquires a user: userPool.size when set, otherwise
+ * the number of users the suite can hold at once according to its parallel settings.
+ * Suites with only API scenarios also start logging the users in ahead of time (see AuthSessionPool).
+ * After each @AfterMethod it reclaims any lease the test thread still holds.
+ */
+public class UserPoolListener implements ISuiteListener, IInvokedMethodListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPoolListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        int configured = ConfigReader.getIntProperty("userPool.size", 0);
+        int needed = configured > 0 ? configured : SuiteParallelism.concurrentUsers(suite.getXmlSuite());
+        if (needed > 0) {
+            logger.info("👥 Suite '{}' needs {} concurrent test user(s), pool has {}", suite.getName(), needed, UserPoolManager.size());
+            UserPoolManager.ensureCapacity(needed);
+        }
+
+        // Only when every user goes to API scenarios: with UI blocks in the suite it is unknown which
+        // users the API block will lease, and sessions are prepared as its scenarios hand them back
+        if (SuiteParallelism.runsApiScenarios(suite.getXmlSuite()) && !SuiteParallelism.runsUiTests(suite.getXmlSuite())) {
+            AuthSessionPool.warmUp(UserPoolManager.allUsers());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.getTestMethod().isAfterMethodConfiguration()) {
+            UserPoolManager.reclaimCurrentThread("still held after " + testResult.getMethod().getQualifiedName());
+        }
+    }
+}
@@ -4,78 +4,106 @@ package com.opencart.ui.base;
 import org.openqa.selenium.JavascriptExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.opencart.ui.models.ElementState;
+import com.opencart.utils.ActionTimeline;
+import com.opencart.utils.ConfigReader;
+import com.opencart.utils.DomQuery;
 import com.opencart.utils.DriverFactory;
+import com.opencart.utils.SettleDetector;
 import com.opencart.utils.WaitUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
-import java.util.NoSuchElementException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class BasePage {
 
     private static final Logger logger = LoggerFactory.getLogger(WaitUtils.class);
 
+    // Standard explicit wait, for elements a test expects to appear
+    protected static final Duration EXPLICIT_WAIT = WaitUtils.TIMEOUT;
+    // Window for optional elements that may still be arriving (AJAX, in-flight navigation); absence checks only
+    protected static final Duration PRESENCE_WINDOW = Duration.ofMillis(ConfigReader.getIntProperty("presence.windowMs", 2000));
+    // Least time between click attempts, for overlays and animations that don't show up as page activity
+    private static final long CLICK_RETRY_PAUSE_MS = ConfigReader.getIntProperty("click.retryPauseMs", 1000);
+
     protected ThreadLocal<WebDriver> driver = ThreadLocal.withInitial(DriverFactory::getDriver);
     protected ThreadLocal<WaitUtils> wait = ThreadLocal.withInitial(WaitUtils::new);
 
     public void click(By locator) {
+        click(locator, SettleDetector.Options.DEFAULT);
+    }
+
+    /**
+     * Clicks with retries and a JS fallback, then waits for the page to settle (see {@link SettleDetector}).
+     * Each click is recorded as an {@link ActionTimeline} span with its attempt count and path.
+     */
+    public void click(By locator, SettleDetector.Options settle) {
         int attempts = 0;
         Exception lastException = null;
+        ActionTimeline.Span span = ActionTimeline.begin("click", locator);
 
-        logger.info("🖱️ Attempting click on element: {}", locator);
-        while (attempts < 3) {
-            try {
-                WebElement element = wait.get().waitForElementToBeClickable(locator);
-
-                // Scroll element into view
-                ((JavascriptExecutor) driver.get()).executeScript("arguments[0].scrollIntoView(true);", element);
-
-                Thread.sleep(200);
-
-                if (element.isEnabled() && element.isDisplayed()) {
-                    element.click();
-                    Thread.sleep(500);
-                    logger.info("✅ Standard click successful: {}", locator);
-                    return;
+        try {
+            logger.info("🖱️ Attempting click on element: {}", locator);
+            while (attempts < 3) {
+                span.attempts(attempts + 1);
+                try {
+                    WebElement element = wait.get().waitForElementToBeClickable(locator);
+
+                    // Scroll element into view
+                    ((JavascriptExecutor) driver.get()).executeScript("arguments[0].scrollIntoView(true);", element);
+
+                    if (element.isEnabled() && element.isDisplayed()) {
+                        element.click();
+                        SettleDetector.awaitSettled(driver.get(), settle, "click " + locator);
+                        logger.info("✅ Standard click successful: {}", locator);
+                        span.succeeded();
+                        return;
+                    }
+
+                } catch (Exception e) {
+                    lastException = e;
+                    logger.warn("⚠️ Click attempt {} failed for locator {}: {}", attempts + 1, locator, e.getMessage());
+                    long retryStart = System.currentTimeMillis();
+                    SettleDetector.awaitSettled(driver.get(), settle, "retry " + locator);
+                    SettleDetector.pause(CLICK_RETRY_PAUSE_MS - (System.currentTimeMillis() - retryStart));
                 }
-
-            } catch (Exception e) {
-                lastException = e;
-                logger.warn("⚠️ Click attempt {} failed for locator {}: {}", attempts + 1, locator, e.getMessage());
-                sleep(1000);
+                attempts++;
             }
-            attempts++;
-        }
 
-        try {
-            WebElement element = wait.get().waitForVisibility(locator);
-            ((JavascriptExecutor) driver.get()).executeScript("arguments[0].scrollIntoView(true);", element);
-            Thread.sleep(200);
-            ((JavascriptExecutor) driver.get()).executeScript("arguments[0].click();", element);
-            Thread.sleep(500);
-            logger.info("JavaScript click successful for locator: {}", locator);
-        } catch (Exception jsEx) {
-            logger.error("❌ All click attempts failed for locator: {}", locator, jsEx);
-            throw new RuntimeException("Click failed after retries and JS fallback: " + locator, lastException);
+            span.path("js");
+            try {
+                WebElement element = wait.get().waitForVisibility(locator);
+                ((JavascriptExecutor) driver.get()).executeScript("arguments[0].scrollIntoView(true);", element);
+                ((JavascriptExecutor) driver.get()).executeScript("arguments[0].click();", element);
+                SettleDetector.awaitSettled(driver.get(), settle, "js click " + locator);
+                logger.info("JavaScript click successful for locator: {}", locator);
+                span.succeeded();
+            } catch (Exception jsEx) {
+                logger.error("❌ All click attempts failed for locator: {}", locator, jsEx);
+                throw new RuntimeException("Click failed after retries and JS fallback: " + locator, lastException);
+            }
+        } finally {
+            span.end();
         }
     }
 
-    private void sleep(int millis) {
+    public void type(By locator, String text) {
+        ActionTimeline.Span span = ActionTimeline.begin("type", locator);
         try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.error("🛑 Sleep interrupted", e);
+            logger.info("⌨️ Typing '{}' into {}", text, locator);
+            clear(locator);
+            wait.get().waitForVisibility(locator).sendKeys(text);
+            span.succeeded();
+        } finally {
+            span.end();
         }
     }
 
-    public void type(By locator, String text) {
-        logger.info("⌨️ Typing '{}' into {}", text, locator);
-        clear(locator);
-        wait.get().waitForVisibility(locator).sendKeys(text);
-    }
-
     public void clear(By locator) {
         logger.debug("🧽 Clearing text from {}", locator);
         WebElement webElement = wait.get().waitForVisibility(locator);
@@ -83,15 +111,27 @@ public class BasePage {
     }
 
     public String getText(By locator) {
-        String text = wait.get().waitForVisibility(locator).getText();
-        logger.debug("📄 Text of {}: '{}'", locator, text);
-        return text;
+        ActionTimeline.Span span = ActionTimeline.begin("getText", locator);
+        try {
+            String text = wait.get().waitForVisibility(locator).getText();
+            logger.debug("📄 Text of {}: '{}'", locator, text);
+            span.succeeded();
+            return text;
+        } finally {
+            span.end();
+        }
     }
 
     public String getAttribute(By locator, String attribute) {
-        String value = wait.get().waitForVisibility(locator).getAttribute(attribute);
-        logger.debug("🔍 Attribute '{}' of {}: '{}'", attribute, locator, value);
-        return value;
+        ActionTimeline.Span span = ActionTimeline.begin("getAttribute(" + attribute + ")", locator);
+        try {
+            String value = wait.get().waitForVisibility(locator).getAttribute(attribute);
+            logger.debug("🔍 Attribute '{}' of {}: '{}'", attribute, locator, value);
+            span.succeeded();
+            return value;
+        } finally {
+            span.end();
+        }
     }
 
     public String getCurrentUrl() {
@@ -101,15 +141,99 @@ public class BasePage {
     }
 
     public boolean isElementDisplayed(By locator) {
-        boolean visible = wait.get().waitForVisibility(locator).isDisplayed();
-        logger.debug("👁️ Element displayed {}: {}", locator, visible);
-        return visible;
+        ActionTimeline.Span span = ActionTimeline.begin("isElementDisplayed", locator);
+        try {
+            boolean visible = wait.get().waitForVisibility(locator).isDisplayed();
+            logger.debug("👁️ Element displayed {}: {}", locator, visible);
+            span.succeeded();
+            return visible;
+        } finally {
+            span.end();
+        }
     }
 
+    /**
+     * Checks the page right now; never pays the implicit wait when the element is absent. For absence
+     * and "needs clearing" probes only: elements a test expects use {@link #EXPLICIT_WAIT}.
+     */
     public boolean isElementPresent(By locator) {
-        boolean present = !driver.get().findElements(locator).isEmpty();
+        boolean present = DomQuery.isPresent(driver.get(), locator);
         logger.debug("📌 Element present {}: {}", locator, present);
         return present;
     }
 
+    /**
+     * Waits at most {@code within} for the element to show up in the DOM.
+     */
+    public boolean isElementPresent(By locator, Duration within) {
+        boolean present = wait.get().waitForPresence(locator, within);
+        logger.debug("📌 Element present within {} ms {}: {}", within.toMillis(), locator, present);
+        return present;
+    }
+
+    /**
+     * Waits at most {@code within} for the element to leave the DOM.
+     */
+    public boolean isElementAbsent(By locator, Duration within) {
+        boolean absent = wait.get().waitForAbsence(locator, within);
+        logger.debug("🫥 Element absent within {} ms {}: {}", within.toMillis(), locator, absent);
+        return absent;
+    }
+
+    /**
+     * Like {@link #isElementDisplayed(By)} but returns false after {@code within} instead of throwing.
+     */
+    public boolean isElementVisible(By locator, Duration within) {
+        boolean visible = wait.get().waitForVisibilityWithin(locator, within);
+        logger.debug("👁️ Element visible within {} ms {}: {}", within.toMillis(), locator, visible);
+        return visible;
+    }
+
+    public boolean isAnyElementPresent(Duration within, By... locators) {
+        return wait.get().waitForAnyPresent(within, locators);
+    }
+
+    // ========================
+    // 🔹 Batched queries (one script call for many locators)
+    // ========================
+
+    public Map<By, ElementState> queryStates(List<String> attributes, By... locators) {
+        Map<By, ElementState> states = DomQuery.states(driver.get(), List.of(locators), attributes);
+        logger.debug("📦 Queried {} element states in one call", states.size());
+        return states;
+    }
+
+    /**
+     * Visibility of every locator; re-polls for up to {@link #EXPLICIT_WAIT} while any is still hidden,
+     * since callers expect all of them to show.
+     */
+    public Map<By, Boolean> areDisplayed(By... locators) {
+        Map<By, Boolean> displayed = new LinkedHashMap<>();
+        if (wait.get().waitForAllVisible(EXPLICIT_WAIT, List.of(locators))) {
+            for (By locator : locators) {
+                displayed.put(locator, true);
+            }
+            return displayed;
+        }
+        queryStates(List.of(), locators).forEach((locator, state) -> displayed.put(locator, state.displayed()));
+        logger.debug("👁️ Batch visibility: {}", displayed);
+        return displayed;
+    }
+
+    public Map<By, String> getTexts(By... locators) {
+        Map<By, String> texts = new LinkedHashMap<>();
+        queryStates(List.of(), locators).forEach((locator, state) -> texts.put(locator, state.text()));
+        return texts;
+    }
+
+    /**
+     * {@link #areDisplayed(By...)} keyed by human-readable labels, in the given order.
+     */
+    protected Map<String, Boolean> visibilityByLabel(Map<String, By> labelledLocators) {
+        Map<By, Boolean> byLocator = areDisplayed(labelledLocators.values().toArray(By[]::new));
+        Map<String, Boolean> byLabel = new LinkedHashMap<>();
+        labelledLocators.forEach((label, locator) -> byLabel.put(label, byLocator.get(locator)));
+        return byLabel;
+    }
+
 }
@@ -16,6 +16,7 @@ import org.testng.Assert;
 import org.testng.annotations.*;
 
 import java.io.ByteArrayInputStream;
+import java.lang.reflect.Method;
 import java.text.SimpleDateFormat;
 import java.util.Properties;
 import org.apache.commons.io.FileUtils;
@@ -34,15 +35,22 @@ public class BaseTest {
     private AccountPage accountPage;
     private LoginPage loginPage;
 
+    private static final boolean FAST_LOGIN = ConfigReader.getBooleanProperty("auth.fastLogin", true);
+
+    // True while the test runs on a cached HTTP session, which teardown must not log out
+    private static final ThreadLocal<Boolean> fastAuthSession = ThreadLocal.withInitial(() -> false);
+
 
     @BeforeMethod(alwaysRun = true)
     @Parameters({"browser"})
-    public void baseSetup(@Optional("chrome") String browserName) {
+    public void baseSetup(@Optional("chrome") String browserName, Method method) {
         if (System.getProperty("browser") != null) {
             browserName = System.getProperty("browser");
         }
 
         DriverFactory.initDriver(browserName);
+        DriverFactory.applyNetworkProfile(resolveNetworkProfile(method));
+        PageLoadTimings.setTest(getClass().getSimpleName());
 
         DriverFactory.getDriver().manage().deleteAllCookies();
         logger.info("🧼 Cleared cookies before test");
@@ -54,6 +62,60 @@ public class BaseTest {
         // For override
     }
 
+    /**
+     * -Dnetwork.profile wins over everything, so the same tests can be measured under another profile;
+     * then method-level @NetworkProfile, class-level, and network.profile in config.
+     */
+    private String resolveNetworkProfile(Method method) {
+        if (System.getProperty("network.profile") != null) {
+            return System.getProperty("network.profile");
+        }
+        NetworkProfile profile = method.getAnnotation(NetworkProfile.class);
+        if (profile == null) {
+            profile = method.getDeclaringClass().getAnnotation(NetworkProfile.class);
+        }
+        if (profile == null) {
+            profile = getClass().getAnnotation(NetworkProfile.class);
+        }
+        return profile != null ? profile.value() : ConfigReader.getProperty("network.profile", "off");
+    }
+
+    /**
+     * Leases a pooled user and logs the browser in, over HTTP when auth.fastLogin is on (see
+     * {@link FastAuth}) and through the login form otherwise or if the HTTP login fails.
+     *
+     * @return the leased user's email
+     */
+    protected String loginAsPooledUser() {
+        String email = UserPoolManager.acquireUser();
+        String password = getProp().getProperty("testUserPassword");
+        WebDriver driver = DriverFactory.getDriver();
+
+        if (FAST_LOGIN) {
+            try {
+                FastAuth.login(driver, email, password);
+
+                // Land on My Account like the form login does
+                new AccountPage().navigateToAccountPage();
+                new WaitUtils().waitForPageLoad();
+                if (driver.getCurrentUrl().contains("route=account/login")) {
+                    throw new RuntimeException("injected session was not accepted");
+                }
+                fastAuthSession.set(true);
+                return email;
+            } catch (Exception e) {
+                logger.warn("⚠️ Fast login failed for {}, using the login form: {}", email, e.getMessage());
+                FastAuth.forget(email);
+            }
+        }
+
+        loginPage = new LoginPage();
+        loginPage.navigateToLoginPage();
+        new WaitUtils().waitForPageLoad();
+        loginPage.login(email, password);
+        return email;
+    }
+
     protected Properties getProp() {
         return ConfigReader.getProperties();
     }
@@ -64,7 +126,8 @@ public class BaseTest {
         WebDriver driver = DriverFactory.getDriver();
 
         try {
-            if (driver != null && isUserLoggedIn()) {
+            // Cached HTTP sessions stay logged in server-side for the next lease of the same user
+            if (driver != null && !fastAuthSession.get() && isUserLoggedIn()) {
                 accountPage = new AccountPage();
                 accountPage.clickLogout();
                 logger.info("🔒 Logged out user: {}", UserPoolManager.getCurrentUser());
@@ -78,9 +141,10 @@ public class BaseTest {
         } catch (Exception e) {
             logger.warn("⚠️ Teardown exception", e);
         } finally {
-            DriverFactory.quitDriver();
+            fastAuthSession.remove();
+            DriverFactory.releaseDriver();
             UserPoolManager.releaseUser();
-            logger.info("🔚 WebDriver closed and user released");
+            logger.info("🔚 WebDriver released and user released");
         }
     }
 
@@ -112,15 +176,8 @@ public class BaseTest {
                 return true;
             }
 
-            // Method 2: Check for logout element presence
-            try {
-                // Look for logout link without navigating anywhere
-                driver.findElement(By.linkText("Logout"));
-                return true;
-            } catch (Exception e) {
-                // Logout link not found, user likely not logged in
-                return false;
-            }
+            // Method 2: Check for logout link in the current page (no implicit wait when logged out)
+            return DomQuery.isPresent(driver, By.linkText("Logout"));
 
         } catch (Exception e) {
             logger.warn("⚠️ Exception during login check", e);
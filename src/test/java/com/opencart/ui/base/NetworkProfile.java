@@ -0,0 +1,17 @@
+package com.opencart.ui.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the network.profile config setting for a test class or method (Chrome only); an
+ * explicit -Dnetwork.profile still wins, to measure the same tests under another profile.
+ * Accepts "off", "lean" or a comma-separated list of: images, fonts, analytics, slideshow.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface NetworkProfile {
+    String value();
+}
@@ -0,0 +1,8 @@
+package com.opencart.ui.models;
+
+/**
+ * One product line of the cart table. Prices keep the storefront formatting (e.g. "$123.20").
+ */
+public record CartRow(String name, String model, int quantity, String unitPrice, String totalPrice,
+                      String cartKey, boolean outOfStock) {
+}
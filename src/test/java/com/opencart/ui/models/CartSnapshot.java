@@ -0,0 +1,24 @@
+package com.opencart.ui.models;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The cart page read in one go: product rows in table order plus the totals block,
+ * keyed by label without the trailing colon ("Sub-Total", "Eco Tax", "VAT", "Total").
+ */
+public record CartSnapshot(List<CartRow> rows, Map<String, String> totals) {
+
+    public Optional<CartRow> row(String productName) {
+        return rows.stream().filter(row -> row.name().equals(productName)).findFirst();
+    }
+
+    public List<String> productNames() {
+        return rows.stream().map(CartRow::name).toList();
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+}
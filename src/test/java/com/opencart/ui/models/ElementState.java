@@ -0,0 +1,18 @@
+package com.opencart.ui.models;
+
+import java.util.Map;
+
+/**
+ * Snapshot of one locator's first match, as read by a batched page query.
+ * Text is empty for hidden elements, the same as WebElement.getText().
+ */
+public record ElementState(boolean present, boolean displayed, String text, Map<String, String> attributes) {
+
+    public static ElementState absent() {
+        return new ElementState(false, false, "", Map.of());
+    }
+
+    public String attribute(String name) {
+        return attributes.get(name);
+    }
+}
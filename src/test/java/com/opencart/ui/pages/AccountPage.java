@@ -1,12 +1,18 @@
 package com.opencart.ui.pages;
 
 import com.opencart.ui.base.BasePage;
+import com.opencart.ui.models.ElementState;
 import com.opencart.utils.ConfigReader;
 import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.opencart.utils.DriverFactory;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public class AccountPage extends BasePage {
 
     private static final Logger logger = LoggerFactory.getLogger(AccountPage.class);
@@ -122,15 +128,13 @@ public class AccountPage extends BasePage {
     private boolean isAccountLinkPresent(By primaryLocator, By alternativeLocator, String linkName) {
         logger.info("Checking if '{}' link is present", linkName);
         try {
-            if (isElementPresent(primaryLocator)) {
-                logger.info("'{}' link found using primary locator", linkName);
-                return true;
-            } else if (isElementPresent(alternativeLocator)) {
-                logger.info("'{}' link found using alternative locator", linkName);
-                return true;
+            // One wait for either locator, so a page using the alternative one doesn't pay the full timeout first
+            if (!isAnyElementPresent(EXPLICIT_WAIT, primaryLocator, alternativeLocator)) {
+                logger.warn("'{}' link not found with either locator", linkName);
+                return false;
             }
-            logger.warn("'{}' link not found with either locator", linkName);
-            return false;
+            logger.info("'{}' link found using {} locator", linkName, isElementPresent(primaryLocator) ? "primary" : "alternative");
+            return true;
         } catch (Exception e) {
             logger.error("Error checking '{}' link presence", linkName, e);
             return false;
@@ -141,7 +145,7 @@ public class AccountPage extends BasePage {
      * Check all account links visibility
      */
     public boolean isEditAccountLinkVisible() {
-        return isElementPresent(editAccountLink);
+        return isElementPresent(editAccountLink, EXPLICIT_WAIT);
     }
 
     public boolean isPasswordLinkVisible() {
@@ -153,11 +157,11 @@ public class AccountPage extends BasePage {
     }
 
     public boolean isWishListLinkVisible() {
-        return isElementPresent(wishListLink);
+        return isElementPresent(wishListLink, EXPLICIT_WAIT);
     }
 
     public boolean isOrderHistoryLinkVisible() {
-        return isElementPresent(orderHistoryLink);
+        return isElementPresent(orderHistoryLink, EXPLICIT_WAIT);
     }
 
     public boolean isDownloadsLinkVisible() {
@@ -181,7 +185,7 @@ public class AccountPage extends BasePage {
     }
 
     public boolean isLogoutLinkVisible() {
-        return isElementPresent(logoutLink);
+        return isElementPresent(logoutLink, EXPLICIT_WAIT);
     }
 
     /**
@@ -254,6 +258,34 @@ public class AccountPage extends BasePage {
         }
     }
 
+    /**
+     * Presence of every account link (primary or alternative locator), read in a single page query
+     * once all of them are there or {@link #EXPLICIT_WAIT} has passed
+     */
+    public Map<String, Boolean> getAccountLinkPresence() {
+        Map<String, By[]> links = new LinkedHashMap<>();
+        links.put("Edit Account", new By[]{editAccountLink});
+        links.put("Password", new By[]{passwordLink, passwordLinkAlt});
+        links.put("Address Book", new By[]{addressBookLink, addressBookLinkAlt});
+        links.put("Wish List", new By[]{wishListLink});
+        links.put("Order History", new By[]{orderHistoryLink});
+        links.put("Downloads", new By[]{downloadsLink, downloadsLinkAlt});
+        links.put("Reward Points", new By[]{rewardPointsLink, rewardPointsLinkAlt});
+        links.put("Returns", new By[]{returnsLink, returnsLinkAlt});
+        links.put("Transactions", new By[]{transactionsLink, transactionsLinkAlt});
+        links.put("Newsletter", new By[]{newsletterLink, newsletterLinkAlt});
+        links.put("Logout", new By[]{logoutLink});
+
+        wait.get().waitForEachPresent(EXPLICIT_WAIT, links.values().stream().map(List::of).toList());
+        Map<By, ElementState> states = queryStates(List.of(),
+                links.values().stream().flatMap(Arrays::stream).toArray(By[]::new));
+
+        Map<String, Boolean> presence = new LinkedHashMap<>();
+        links.forEach((name, locators) -> presence.put(name,
+                Arrays.stream(locators).anyMatch(locator -> states.get(locator).present())));
+        return presence;
+    }
+
     /**
      * Comprehensive method to verify all account links are present
      */
@@ -261,60 +293,11 @@ public class AccountPage extends BasePage {
         logger.info("Verifying all account links are visible");
 
         boolean allLinksVisible = true;
-
-        if (!isEditAccountLinkVisible()) {
-            logger.error("Edit Account link is not visible");
-            allLinksVisible = false;
-        }
-
-        if (!isPasswordLinkVisible()) {
-            logger.error("Password link is not visible");
-            allLinksVisible = false;
-        }
-
-        if (!isAddressBookLinkVisible()) {
-            logger.error("Address Book link is not visible");
-            allLinksVisible = false;
-        }
-
-        if (!isWishListLinkVisible()) {
-            logger.error("Wish List link is not visible");
-            allLinksVisible = false;
-        }
-
-        if (!isOrderHistoryLinkVisible()) {
-            logger.error("Order History link is not visible");
-            allLinksVisible = false;
-        }
-
-        if (!isDownloadsLinkVisible()) {
-            logger.error("Downloads link is not visible");
-            allLinksVisible = false;
-        }
-
-        if (!isRewardPointsLinkVisible()) {
-            logger.error("Reward Points link is not visible");
-            allLinksVisible = false;
-        }
-
-        if (!isReturnsLinkVisible()) {
-            logger.error("Returns link is not visible");
-            allLinksVisible = false;
-        }
-
-        if (!isTransactionsLinkVisible()) {
-            logger.error("Transactions link is not visible");
-            allLinksVisible = false;
-        }
-
-        if (!isNewsletterLinkVisible()) {
-            logger.error("Newsletter link is not visible");
-            allLinksVisible = false;
-        }
-
-        if (!isLogoutLinkVisible()) {
-            logger.error("Logout link is not visible");
-            allLinksVisible = false;
+        for (Map.Entry<String, Boolean> link : getAccountLinkPresence().entrySet()) {
+            if (!link.getValue()) {
+                logger.error("{} link is not visible", link.getKey());
+                allLinksVisible = false;
+            }
         }
 
         logger.info("All account links visible: {}", allLinksVisible);
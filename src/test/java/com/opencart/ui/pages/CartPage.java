@@ -2,17 +2,20 @@ package com.opencart.ui.pages;
 
 import com.opencart.api.clients.ApiRoutes;
 import com.opencart.ui.base.BasePage;
+import com.opencart.ui.models.CartRow;
+import com.opencart.ui.models.CartSnapshot;
 import com.opencart.utils.ConfigReader;
 import com.opencart.utils.DriverFactory;
 import org.openqa.selenium.By;
-import org.openqa.selenium.StaleElementReferenceException;
-import org.openqa.selenium.TimeoutException;
-import org.openqa.selenium.WebElement;
+import org.openqa.selenium.JavascriptExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.UUID;
 
 public class CartPage extends BasePage {
 
@@ -20,61 +23,143 @@ public class CartPage extends BasePage {
 
     // XPath Locators for dynamic product handling
     private final String productRowXpath = "//table[contains(@class,'table-bordered')]//td[contains(@class,'text-left')]/a[normalize-space()='%s']";
-    private final String productNameXpath = "//form//tr[td/a[normalize-space()='%s']]//td[@class='text-left']/a";
-    private final String productModelXpath = "//form//tr[td[a[normalize-space()='%s']]]//td[@class='text-left'][2]";
     private final String quantityInputXpath = "//tr[td[a[normalize-space()='%s']]]//input[@type='text' and contains(@class, 'form-control')]";
-    private final String unitPriceXpath = "//form//tr[td[a[normalize-space()='%s']]]//td[@class='text-right'][1]";
-    private final String totalPriceXpath = "//form//tr[td[a[normalize-space()='%s']]]//td[@class='text-right'][2]";
     private final String updateButtonXpath = "//tr[td[a[normalize-space()='%s']]]//button[@class='btn btn-primary' and contains(@data-original-title, 'Update')]";
     private final String removeButtonXpath = "//tr[td[a[normalize-space()='%s']]]//button[@class='btn btn-danger' and contains(@onclick, 'cart.remove')]";
     private final String outOfStockMarker = "//tr[td[a[normalize-space()='%s']]]//span[@class='text-danger' and normalize-space()='***']";
+    private final String totalRowXpath = "//div[@id='content']//tr[td/strong[normalize-space()='%s:']]";
 
     // Static locators
     private final By emptyCartMessage = By.xpath("//div[@id='content']/p[contains(text(), 'Your shopping cart is empty!')]");
     private final By emptyCartMessageLocator = By.cssSelector("#content p");
-    private final By subtotal = By.xpath("//tr[td[strong[normalize-space()='Sub-Total:']]]/td[@class='text-right'][2]");
-    private final By ecoTax = By.xpath("//tr[td[strong[normalize-space()='Eco Tax:']]]/td[@class='text-right'][2]");
-    private final By vat = By.xpath("//tr[td[strong[normalize-space()='VAT:']]]/td[@class='text-right'][2]");
-    private final By grandTotal = By.xpath("//tr[td[strong[normalize-space()='Total:']]]/td[@class='text-right'][2]");
     private final By checkoutButton = By.linkText("Checkout");
-    private final By allProducts = By.xpath("//table[contains(@class,'table-bordered')]//td[contains(@class,'text-left')]/a");
     private final By stockWarning = By.xpath("//div[contains(@class,'alert-danger') and contains(text(), 'not available in the desired quantity')]");
     private final By successAlert = By.cssSelector("div.alert-success");
 
+    // Reads every product row and the totals block (see CartSnapshot) and tags the document it read
+    private static final String SNAPSHOT_SCRIPT =
+            "document.__cartSnapshot = arguments[0];" +
+            "var clean = function (el) { return el ? (el.innerText || el.textContent || '').replace(/\\s+/g, ' ').trim() : ''; };" +
+            "var rows = [];" +
+            "document.querySelectorAll('#content form table tbody tr').forEach(function (tr) {" +
+            "  var cells = tr.querySelectorAll(':scope > td');" +
+            "  var input = tr.querySelector('input[name^=\"quantity[\"]');" +
+            "  if (cells.length < 6 || !input) { return; }" +
+            "  var marker = cells[1].querySelector('span.text-danger');" +
+            "  rows.push([clean(cells[1].querySelector('a')), clean(cells[2]), input.value," +
+            "      clean(cells[4]), clean(cells[5]), input.name.slice(9, -1)," +
+            "      !!marker && marker.textContent.trim() === '***']);" +
+            "});" +
+            "var totals = {};" +
+            "document.querySelectorAll('#content tr').forEach(function (tr) {" +
+            "  var label = tr.querySelector('td strong');" +
+            "  if (!label || tr.closest('form')) { return; }" +
+            "  var cells = tr.querySelectorAll(':scope > td');" +
+            "  totals[clean(label).replace(/:$/, '')] = clean(cells[cells.length - 1]);" +
+            "});" +
+            "return [rows, totals];";
+
+    // True while the browser still shows the fully loaded document a snapshot was read from
+    private static final String SAME_DOCUMENT_SCRIPT =
+            "return document.__cartSnapshot === arguments[0] && document.readyState === 'complete';";
+
+    private record CachedSnapshot(String document, CartSnapshot snapshot) {
+    }
+
+    // Page objects are shared by parallel test methods, so the cached snapshot is per thread
+    private final ThreadLocal<CachedSnapshot> snapshot = new ThreadLocal<>();
+
     public CartPage() {
         super();
         logger.info("CartPage initialized");
     }
 
+    /**
+     * Whole cart table and totals, read with one script call. Reused until the next cart mutation
+     * through this page object or until the browser loads another document, however it got there.
+     */
+    @SuppressWarnings("unchecked")
+    public CartSnapshot getSnapshot() {
+        JavascriptExecutor js = (JavascriptExecutor) driver.get();
+        CachedSnapshot cached = snapshot.get();
+        if (cached != null && Boolean.TRUE.equals(js.executeScript(SAME_DOCUMENT_SCRIPT, cached.document()))) {
+            return cached.snapshot();
+        }
+
+        String document = UUID.randomUUID().toString();
+        List<Object> result = (List<Object>) js.executeScript(SNAPSHOT_SCRIPT, document);
+        List<CartRow> rows = new ArrayList<>();
+        for (Object item : (List<Object>) result.get(0)) {
+            List<Object> cells = (List<Object>) item;
+            rows.add(new CartRow((String) cells.get(0), (String) cells.get(1), Integer.parseInt((String) cells.get(2)),
+                    (String) cells.get(3), (String) cells.get(4), (String) cells.get(5), (Boolean) cells.get(6)));
+        }
+        Map<String, String> totals = new LinkedHashMap<>();
+        ((Map<String, Object>) result.get(1)).forEach((label, value) -> totals.put(label, String.valueOf(value)));
+
+        CartSnapshot fresh = new CartSnapshot(List.copyOf(rows), totals);
+        snapshot.set(new CachedSnapshot(document, fresh));
+        logger.debug("🧾 Cart snapshot: {} rows, totals {}", rows.size(), totals.keySet());
+        return fresh;
+    }
+
+    private void invalidateSnapshot() {
+        snapshot.remove();
+    }
+
+    /** Row for the product; if it is not there yet, waits for it and re-reads once */
+    private CartRow row(String productName) {
+        return getSnapshot().row(productName).orElseGet(() -> {
+            invalidateSnapshot();
+            isElementPresent(By.xpath(String.format(productRowXpath, productName)), EXPLICIT_WAIT);
+            return getSnapshot().row(productName)
+                    .orElseThrow(() -> new IllegalStateException("Product not found in cart: " + productName));
+        });
+    }
+
+    /** Value of a totals row; if it is not rendered yet, waits for it and re-reads once */
+    private String total(String label) {
+        String value = getSnapshot().totals().get(label);
+        if (value == null) {
+            invalidateSnapshot();
+            isElementPresent(By.xpath(String.format(totalRowXpath, label)), EXPLICIT_WAIT);
+            value = getSnapshot().totals().get(label);
+        }
+        if (value == null) {
+            throw new IllegalStateException("Cart total not found: " + label);
+        }
+        return value;
+    }
+
     /** Get product name by its label */
     public String getProductName(String productName) {
-        return getText(By.xpath(String.format(productNameXpath, productName)));
+        return row(productName).name();
     }
 
     /** Get model name of product */
     public String getProductModel(String productName) {
-        return getText(By.xpath(String.format(productModelXpath, productName)));
+        return row(productName).model();
     }
 
     /** Get current quantity of a product */
     public int getQuantity(String productName) {
-        String qty = getAttribute(By.xpath(String.format(quantityInputXpath, productName)), "value");
-        return Integer.parseInt(qty);
+        return row(productName).quantity();
     }
 
     /** Get unit price of product as integer */
     public int getUnitPrice(String productName) {
-        return priceAsInteger(getText(By.xpath(String.format(unitPriceXpath, productName))));
+        return priceAsInteger(row(productName).unitPrice());
     }
 
     /** Get total price of product as integer */
     public int getTotalPrice(String productName) {
-        return priceAsInteger(getText(By.xpath(String.format(totalPriceXpath, productName))));
+        return priceAsInteger(row(productName).totalPrice());
     }
 
     /** Update quantity of a given product */
     public void updateQuantity(String productName, int newQuantity) {
         logger.info("Updating quantity for '{}': {}", productName, newQuantity);
+        invalidateSnapshot();
         type(By.xpath(String.format(quantityInputXpath, productName)), String.valueOf(newQuantity));
         click(By.xpath(String.format(updateButtonXpath, productName)));
     }
@@ -96,6 +181,7 @@ public class CartPage extends BasePage {
     /** Remove product from cart using delete button */
     public void removeProductViaDeleteButton(String productName) {
         logger.info("Removing product '{}' using delete button", productName);
+        invalidateSnapshot();
         click(By.xpath(String.format(removeButtonXpath, productName)));
     }
 
@@ -113,34 +199,32 @@ public class CartPage extends BasePage {
     public void clearCartIfNotEmpty() {
         navigateToCart();
         while (true) {
-            List<WebElement> productElements = driver.get().findElements(allProducts);
-            if (productElements.isEmpty()) {
+            List<String> products = getAllProductNamesInCart();
+            if (products.isEmpty()) {
                 logger.info("Cart is already empty");
                 break;
             }
-            try {
-                String productName = productElements.get(0).getText().trim();
-                logger.info("Removing product: {}", productName);
-                removeProductViaDeleteButton(productName);
-                wait.get().waitUntilInvisibilityOfElementLocated(By.xpath(String.format(productRowXpath, productName)));
-            } catch (StaleElementReferenceException e) {
-                logger.warn("Stale element encountered. Retrying cart update");
-            }
+            String productName = products.get(0);
+            logger.info("Removing product: {}", productName);
+            removeProductViaDeleteButton(productName);
+            wait.get().waitUntilInvisibilityOfElementLocated(By.xpath(String.format(productRowXpath, productName)));
+            invalidateSnapshot();
         }
     }
 
-    /** Check if empty cart message is shown */
+    /** Check if empty cart message is shown; waits the full explicit timeout for it */
     public boolean isEmptyCartMessageDisplayed() {
-        try {
-            return isElementDisplayed(emptyCartMessage);
-        } catch (TimeoutException e) {
-            return false;
-        }
+        return isElementVisible(emptyCartMessage, EXPLICIT_WAIT);
+    }
+
+    /** Quick check for the empty cart message, for deciding whether the cart needs clearing */
+    public boolean isEmptyCartMessagePresent() {
+        return isElementVisible(emptyCartMessage, PRESENCE_WINDOW);
     }
 
     /** Check if product is in cart */
     public boolean isProductInCart(String productName) {
-        return isElementPresent(By.xpath(String.format(productRowXpath, productName)));
+        return isElementPresent(By.xpath(String.format(productRowXpath, productName)), EXPLICIT_WAIT);
     }
 
     /** Verify only one product is in cart */
@@ -156,16 +240,20 @@ public class CartPage extends BasePage {
 
     /** Return list of all product names in cart */
     public List<String> getAllProductNamesInCart() {
-        List<WebElement> productElements = driver.get().findElements(allProducts);
-        if (productElements.isEmpty()) {
+        List<String> names = new ArrayList<>(getSnapshot().productNames());
+        if (names.isEmpty()) {
             logger.info("No products in cart");
         }
-        return productElements.stream().map(WebElement::getText).collect(Collectors.toList());
+        return names;
     }
 
     /** Check if product is marked out of stock */
     public boolean isProductMarkedOutOfStock(String productName) {
-        return isElementPresent(By.xpath(String.format(outOfStockMarker, productName)));
+        if (getSnapshot().row(productName).map(CartRow::outOfStock).orElse(false)) {
+            return true;
+        }
+        invalidateSnapshot();
+        return isElementPresent(By.xpath(String.format(outOfStockMarker, productName)), EXPLICIT_WAIT);
     }
 
     /** Check if quantity warning is shown */
@@ -175,38 +263,40 @@ public class CartPage extends BasePage {
 
     /** Get success message from alert */
     public String getSuccessMessage() {
-        return getText(successAlert).trim();
+        return wait.get().waitForVisibleText(successAlert).trim();
     }
 
     /** Proceed to checkout */
     public void proceedToCheckout() {
+        invalidateSnapshot();
         click(checkoutButton);
         wait.get().waitForUrlContains("checkout/checkout");
     }
 
     /** Navigate to cart page */
     public void navigateToCart() {
+        invalidateSnapshot();
         DriverFactory.getDriver().navigate().to(ConfigReader.getProperty("baseUrl") + "index.php?route=checkout/cart");
         logger.info("Navigated to: {}", DriverFactory.getDriver().getCurrentUrl());
     }
 
     /** Get subtotal text */
     public String getSubtotal() {
-        return getText(subtotal);
+        return total("Sub-Total");
     }
 
     /** Get Eco Tax text */
     public String getEcoTax() {
-        return getText(ecoTax);
+        return total("Eco Tax");
     }
 
     /** Get VAT text */
     public String getVAT() {
-        return getText(vat);
+        return total("VAT");
     }
 
     /** Get grand total text */
     public String getGrandTotal() {
-        return getText(grandTotal);
+        return total("Total");
     }
 }
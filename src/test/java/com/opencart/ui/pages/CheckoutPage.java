@@ -81,7 +81,7 @@ public class CheckoutPage extends BasePage {
      */
     public void expandBillingDetails() {
         logger.info("[Step 2 - Billing] Attempting to expand billing details");
-        if (!isElementDisplayed(step2Accordion)) {
+        if (!isElementVisible(step2Accordion, PRESENCE_WINDOW)) {
             logger.info("Billing details not expanded, clicking header");
             click(step2Header);
         } else {
@@ -91,7 +91,7 @@ public class CheckoutPage extends BasePage {
 
     public void expandDeliveryDetails() {
         logger.debug("[Step 3 - Billing] Attempting to expand delivery details");
-        if (!isElementDisplayed(step3Accordion)) {
+        if (!isElementVisible(step3Accordion, PRESENCE_WINDOW)) {
             logger.debug("Delivery details not expanded, clicking header");
             click(step3Header);
         } else {
@@ -106,7 +106,7 @@ public class CheckoutPage extends BasePage {
     public void selectNewAddress(String type) {
         By locator = type.equals("payment") ? useNewPaymentAddressRadio : useNewShippingAddressRadio;
 
-        if (isElementPresent(locator)) {
+        if (isElementPresent(locator, PRESENCE_WINDOW)) {
             logger.info("✅ Selecting 'New {} Address' radio option", type);
             click(locator);
         } else {
@@ -201,6 +201,12 @@ public class CheckoutPage extends BasePage {
         logger.debug("Collecting billing validation errors");
         List<String> errors = new ArrayList<>();
 
+        // Errors are rendered together by the AJAX response, so wait once and then read them directly
+        if (!isAnyElementPresent(PRESENCE_WINDOW, firstNameError, lastNameError, address1Error, cityError)) {
+            logger.debug("No validation errors found");
+            return errors;
+        }
+
         if (isElementPresent(firstNameError)) {
             String error = getText(firstNameError);
             logger.warn("First name validation error: {}", error);
@@ -232,8 +238,7 @@ public class CheckoutPage extends BasePage {
     }
 
     public boolean isBillingValidationErrorDisplayed() {
-        boolean hasErrors = isElementPresent(firstNameError) || isElementPresent(lastNameError) ||
-                isElementPresent(address1Error) || isElementPresent(cityError);
+        boolean hasErrors = isAnyElementPresent(PRESENCE_WINDOW, firstNameError, lastNameError, address1Error, cityError);
         logger.debug("Checking for billing validation errors: {}", hasErrors);
         return hasErrors;
     }
@@ -331,7 +336,7 @@ public class CheckoutPage extends BasePage {
      */
 
     public boolean isTermsErrorDisplayed() {
-        boolean isDisplayed = isElementPresent(termsError);
+        boolean isDisplayed = isElementPresent(termsError, EXPLICIT_WAIT);
         logger.debug("Checking if terms error is displayed: {}", isDisplayed);
         return isDisplayed;
     }
@@ -390,7 +395,7 @@ public class CheckoutPage extends BasePage {
 
     public boolean isNewAddressSelectionRequired(String type) {
         By locator = type.equals("payment") ? useNewPaymentAddressRadio : useNewShippingAddressRadio;
-        return isElementPresent(locator);
+        return isElementPresent(locator, PRESENCE_WINDOW);
     }
 
 }
\ No newline at end of file
@@ -7,6 +7,9 @@ import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class HomePage extends BasePage {
 
     private static final Logger logger = LoggerFactory.getLogger(HomePage.class);
@@ -123,6 +126,38 @@ public class HomePage extends BasePage {
     public boolean isBrandsVisible() { return isElementDisplayed(brands); }
     public boolean isMyAccountFooterVisible() { return isElementDisplayed(myAccountFooter); }
 
+    // --- Batch validators (one page query per section) ---
+    public Map<String, Boolean> getLayoutVisibility() {
+        return visibilityByLabel(sectionOf("Logo", logo, "Image slider", imageSlider, "Footer", footer));
+    }
+
+    public Map<String, Boolean> getHeaderVisibility() {
+        return visibilityByLabel(sectionOf("Currency selector", currencySelector, "Contact number", contactNumber,
+                "My Account", myAccount, "Wish List", wishList, "Shopping Cart", shoppingCart));
+    }
+
+    public Map<String, Boolean> getNavigationMenuVisibility() {
+        return visibilityByLabel(sectionOf("Desktops", desktops, "Laptops & Notebooks", laptops, "Tablets", tablets));
+    }
+
+    public Map<String, Boolean> getFeaturedProductsVisibility() {
+        return visibilityByLabel(sectionOf("MacBook", macbookProduct, "iPhone", iPhoneProduct,
+                "Add to Cart buttons", addToCartButtons));
+    }
+
+    public Map<String, Boolean> getFooterLinksVisibility() {
+        return visibilityByLabel(sectionOf("About Us", aboutUs, "Contact Us", contactUs, "Brands", brands,
+                "My Account (footer)", myAccountFooter));
+    }
+
+    private Map<String, By> sectionOf(Object... labelsAndLocators) {
+        Map<String, By> section = new LinkedHashMap<>();
+        for (int i = 0; i < labelsAndLocators.length; i += 2) {
+            section.put((String) labelsAndLocators[i], (By) labelsAndLocators[i + 1]);
+        }
+        return section;
+    }
+
     /**
      * Gets trimmed text from success alert banner
      * @return success message text
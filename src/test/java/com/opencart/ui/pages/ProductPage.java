@@ -134,7 +134,7 @@ public class ProductPage extends BasePage {
 
     public String getSuccessMessage() {
         try {
-            return getText(successAlert).trim();
+            return wait.get().waitForVisibleText(successAlert).trim();
         } catch (Exception e) {
             logger.warn("No success message found");
             return "";
@@ -163,11 +163,11 @@ public class ProductPage extends BasePage {
     // ========================
 
     public boolean hasRequiredOptions() {
-        return isElementPresent(requiredOptionDropdown);
+        return isElementPresent(requiredOptionDropdown, PRESENCE_WINDOW);
     }
 
     public void selectSizeOption(String size) {
-        if (isElementPresent(optionDropdown)) {
+        if (isElementPresent(optionDropdown, PRESENCE_WINDOW)) {
             WebElement dropdown = wait.get().waitForVisibility(optionDropdown);
             Select select = new Select(dropdown);
             logger.info("🔽 Selecting size option: {}", size);
@@ -180,6 +180,9 @@ public class ProductPage extends BasePage {
     }
 
     public String getOptionErrorMessage() {
+        if (!isElementVisible(optionError, PRESENCE_WINDOW)) {
+            return "";
+        }
         try {
             return getText(optionError);
         } catch (Exception e) {
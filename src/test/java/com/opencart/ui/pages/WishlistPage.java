@@ -2,12 +2,14 @@ package com.opencart.ui.pages;
 
 import com.opencart.ui.base.BasePage;
 import com.opencart.utils.ConfigReader;
+import com.opencart.utils.DomQuery;
 import com.opencart.utils.DriverFactory;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -49,25 +51,33 @@ public class WishlistPage extends BasePage {
     // ========================
 
     /**
-     * Checks if a product exists in the wishlist
+     * Checks if a product exists in the wishlist, waiting the explicit timeout for it
      */
     public boolean isProductInWishlist(String productName) {
         By productLocator = By.xpath(String.format(productRowXpath, productName));
-        return isElementPresent(productLocator);
+        return isElementPresent(productLocator, EXPLICIT_WAIT);
+    }
+
+    /**
+     * Checks that a product has left the wishlist, e.g. after removing it
+     */
+    public boolean isProductGoneFromWishlist(String productName) {
+        By productLocator = By.xpath(String.format(productRowXpath, productName));
+        return isElementAbsent(productLocator, PRESENCE_WINDOW);
     }
 
     /**
      * Checks if 'Add to Cart' button is visible for a given product
      */
     public boolean isAddToCartButtonVisible(String productName) {
-        return isElementPresent(By.xpath(String.format(cartButtonXpath, productName)));
+        return isElementPresent(By.xpath(String.format(cartButtonXpath, productName)), EXPLICIT_WAIT);
     }
 
     /**
      * Checks if 'Remove' button is visible for a given product
      */
     public boolean isRemoveButtonVisible(String productName) {
-        return isElementPresent(By.xpath(String.format(removeButtonXpath, productName)));
+        return isElementPresent(By.xpath(String.format(removeButtonXpath, productName)), EXPLICIT_WAIT);
     }
 
     // ========================
@@ -112,10 +122,11 @@ public class WishlistPage extends BasePage {
      * Gets list of all product names in wishlist
      */
     public List<String> getAllProductNamesInWishList() {
-        List<WebElement> productElements = driver.get().findElements(allProducts);
-        if (productElements.isEmpty()) {
+        if (!isElementPresent(allProducts)) {
             logger.info("ℹ️ No products found in wishlist.");
+            return new ArrayList<>();
         }
+        List<WebElement> productElements = driver.get().findElements(allProducts);
         return productElements.stream().map(WebElement::getText).collect(Collectors.toList());
     }
 
@@ -142,14 +153,13 @@ public class WishlistPage extends BasePage {
      * Gets number of product entries in wishlist with the same name
      */
     public int getWishlistProductCount(String productName) {
-        List<WebElement> productElements = driver.get().findElements(By.xpath(String.format(productRowXpath, productName)));
-        return productElements.size();
+        return DomQuery.count(driver.get(), By.xpath(String.format(productRowXpath, productName)));
     }
 
     /**
      * Retrieves the latest success message
      */
     public String getSuccessMessage() {
-        return getText(successAlert).trim();
+        return wait.get().waitForVisibleText(successAlert).trim();
     }
 }
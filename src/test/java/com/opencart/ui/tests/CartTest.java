@@ -2,14 +2,13 @@ package com.opencart.ui.tests;
 
 
 import com.opencart.ui.base.BaseTest;
+import com.opencart.ui.base.NetworkProfile;
 import com.opencart.ui.models.CartSetupResult;
 import com.opencart.ui.pages.CartPage;
 import com.opencart.ui.pages.HomePage;
-import com.opencart.ui.pages.LoginPage;
 import com.opencart.ui.pages.ProductPage;
 import com.opencart.utils.CartTestUtils;
 import com.opencart.utils.DriverFactory;
-import com.opencart.utils.UserPoolManager;
 import io.cucumber.java.eo.Se;
 import io.qameta.allure.*;
 import io.qameta.allure.testng.Tag;
@@ -28,13 +27,13 @@ import static org.testng.Assert.*;
 @Owner("saparbek.kozhanazar04@gmail.com")
 @Tag("regression")
 @Tag("ui")
+@NetworkProfile("lean")
 public class CartTest extends BaseTest {
     private static final Logger logger = LoggerFactory.getLogger(CartTest.class);
 
     private HomePage homePage;
     private CartPage cartPage;
     private ProductPage productPage;
-    private LoginPage loginPage;
 
     // Test data constants
     private static final String PRODUCT_NAME = "Product 8";
@@ -45,19 +44,10 @@ public class CartTest extends BaseTest {
     public void setupTestData() {
         logger.info("🧹 Clearing cart and initializing pages for new test...");
         cartPage = new CartPage();
-        cartPage.navigateToCart();
-
         homePage = new HomePage();
         productPage = new ProductPage();
-        loginPage = new LoginPage();
-
-        loginPage.navigateToLoginPage();
-        new WaitUtils().waitForPageLoad();
-
-        String email = UserPoolManager.acquireUser();
-        String password = getProp().getProperty("testUserPassword");
 
-        loginPage.login(email, password);
+        loginAsPooledUser();
 
         cartPage.navigateToCart();
         new WaitUtils().waitForPageLoad();
@@ -72,7 +62,7 @@ public class CartTest extends BaseTest {
     public void validateEmptyCartMessage() {
         logger.info("🔁 Running test: TC_009 - Validate Empty Cart Message");
 
-        if (!cartPage.isEmptyCartMessageDisplayed()) {
+        if (!cartPage.isEmptyCartMessagePresent()) {
             logger.debug("Cart is not empty — clearing it.");
             cartPage.clearCartIfNotEmpty();
         }
@@ -3,7 +3,6 @@ package com.opencart.ui.tests;
 import com.opencart.ui.base.BaseTest;
 import com.opencart.ui.pages.*;
 import com.opencart.utils.DriverFactory;
-import com.opencart.utils.UserPoolManager;
 import io.qameta.allure.*;
 import io.qameta.allure.testng.Tag;
 import org.openqa.selenium.By;
@@ -25,7 +24,6 @@ public class CheckoutTest extends BaseTest {
     private CheckoutPage checkoutPage;
     private CartPage cartPage;
     private ProductPage productPage;
-    private LoginPage loginPage;
     private HomePage homePage;
 
     // Test data
@@ -40,15 +38,8 @@ public class CheckoutTest extends BaseTest {
         homePage = new HomePage();
         cartPage = new CartPage();
         checkoutPage = new CheckoutPage();
-        loginPage = new LoginPage();
 
-        loginPage.navigateToLoginPage();
-        new WaitUtils().waitForPageLoad();
-
-        String email = UserPoolManager.acquireUser();
-        String password = getProp().getProperty("testUserPassword");
-
-        loginPage.login(email, password);
+        loginAsPooledUser();
 
         homePage.searchProduct(PRODUCT_NAME);
 
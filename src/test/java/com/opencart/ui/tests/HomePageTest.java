@@ -1,8 +1,7 @@
 package com.opencart.ui.tests;
 
 import com.opencart.ui.base.BaseTest;
-import com.opencart.ui.pages.LoginPage;
-import com.opencart.utils.UserPoolManager;
+import com.opencart.ui.base.NetworkProfile;
 import com.opencart.ui.pages.HomePage;
 import com.opencart.utils.WaitUtils;
 
@@ -11,28 +10,24 @@ import io.qameta.allure.testng.Tag;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.List;
+import java.util.Map;
+
 @Epic("Home Page")
 @Feature("UI Elements and Functional Components")
 @Owner("saparbek.kozhanazar04@gmail.com")
 @Tag("ui")
 @Tag("regression")
+@NetworkProfile("lean")
 public class HomePageTest extends BaseTest {
 
     private HomePage homePage;
-    private LoginPage loginPage;
 
     @Override
     public void setupTestData() {
         homePage = new HomePage();
-        loginPage = new LoginPage();
-
-        loginPage.navigateToLoginPage();
-        new WaitUtils().waitForPageLoad();
 
-        String email = UserPoolManager.acquireUser();
-        String password = getProp().getProperty("testUserPassword");
-
-        loginPage.login(email, password);
+        loginAsPooledUser();
         homePage.navigateToHomePage();
         new WaitUtils().waitForPageLoad();
     }
@@ -43,9 +38,7 @@ public class HomePageTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @TmsLink("TC-027")
     public void testHomePageLoadAndLayout() {
-        Assert.assertTrue(homePage.isLogoVisible(), "Logo not visible");
-        Assert.assertTrue(homePage.isSliderVisible(), "Image slider not visible");
-        Assert.assertTrue(homePage.isFooterVisible(), "Footer not visible");
+        assertAllVisible(homePage.getLayoutVisibility());
     }
 
     @Test(priority = 2, description = "TC_028: Header Functionality Verification",
@@ -54,11 +47,7 @@ public class HomePageTest extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     @TmsLink("TC-028")
     public void testHeaderFunctionality() {
-        Assert.assertTrue(homePage.isCurrencySelectorVisible(), "Currency selector not visible");
-        Assert.assertTrue(homePage.isContactNumberVisible(), "Contact number not visible");
-        Assert.assertTrue(homePage.isMyAccountVisible(), "My Account not visible");
-        Assert.assertTrue(homePage.isWishListVisible(), "Wish List not visible");
-        Assert.assertTrue(homePage.isShoppingCartVisible(), "Shopping Cart not visible");
+        assertAllVisible(homePage.getHeaderVisibility());
     }
 
     @Test(priority = 3, description = "TC_029: Navigation Menu Verification",
@@ -67,9 +56,7 @@ public class HomePageTest extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     @TmsLink("TC-029")
     public void testNavigationMenu() {
-        Assert.assertTrue(homePage.isDesktopsVisible(), "Desktops not visible");
-        Assert.assertTrue(homePage.isLaptopsVisible(), "Laptops not visible");
-        Assert.assertTrue(homePage.isTabletsVisible(), "Tablets not visible");
+        assertAllVisible(homePage.getNavigationMenuVisibility());
     }
 
     @Test(priority = 4, description = "TC_030: Search Functionality",
@@ -88,9 +75,7 @@ public class HomePageTest extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     @TmsLink("TC-031")
     public void testFeaturedProducts() {
-        Assert.assertTrue(homePage.isMacbookVisible(), "MacBook not found");
-        Assert.assertTrue(homePage.isIPhoneVisible(), "iPhone not found");
-        Assert.assertTrue(homePage.areAddToCartButtonsVisible(), "Add to Cart buttons missing");
+        assertAllVisible(homePage.getFeaturedProductsVisibility());
     }
 
     @Test(priority = 6, description = "TC_032: Add to Cart Functionality",
@@ -112,9 +97,14 @@ public class HomePageTest extends BaseTest {
     @Severity(SeverityLevel.MINOR)
     @TmsLink("TC-033")
     public void testFooterLinks() {
-        Assert.assertTrue(homePage.isAboutUsVisible(), "About Us link missing");
-        Assert.assertTrue(homePage.isContactUsVisible(), "Contact Us link missing");
-        Assert.assertTrue(homePage.isBrandsVisible(), "Brands link missing");
-        Assert.assertTrue(homePage.isMyAccountFooterVisible(), "My Account link in footer missing");
+        assertAllVisible(homePage.getFooterLinksVisibility());
+    }
+
+    private void assertAllVisible(Map<String, Boolean> visibility) {
+        List<String> hidden = visibility.entrySet().stream()
+                .filter(entry -> !entry.getValue())
+                .map(Map.Entry::getKey)
+                .toList();
+        Assert.assertTrue(hidden.isEmpty(), "Not visible: " + hidden);
     }
 }
@@ -2,8 +2,6 @@ package com.opencart.ui.tests;
 
 import com.opencart.ui.base.BaseTest;
 import com.opencart.ui.pages.*;
-import com.opencart.utils.UserPoolManager;
-import com.opencart.utils.WaitUtils;
 import io.qameta.allure.*;
 import io.qameta.allure.testng.Tag;
 import io.qameta.allure.testng.Tags;
@@ -24,7 +22,6 @@ public class ProductPageTest extends BaseTest {
     private HomePage homePage;
     private ProductPage productPage;
     private CartPage cartPage;
-    private LoginPage loginPage;
 
     private static final String PRODUCT_WITH_OPTIONS = "Product 8";
     private static final String PRODUCT_NO_OPTIONS = "iMac";
@@ -37,15 +34,8 @@ public class ProductPageTest extends BaseTest {
         homePage = new HomePage();
         productPage = new ProductPage();
         cartPage = new CartPage();
-        loginPage = new LoginPage();
 
-        loginPage.navigateToLoginPage();
-        new WaitUtils().waitForPageLoad();
-
-        String email = UserPoolManager.acquireUser();
-        String password = getProp().getProperty("testUserPassword");
-        loginPage.login(email, password);
-        new WaitUtils().waitForPageLoad();
+        loginAsPooledUser();
     }
 
     @Test(description = "TC_034: Product Page Loads Successfully",
@@ -1,10 +1,9 @@
 package com.opencart.ui.tests;
 
 import com.opencart.ui.base.BaseTest;
+import com.opencart.ui.base.NetworkProfile;
 import com.opencart.ui.models.WishlistSetupResult;
 import com.opencart.ui.pages.*;
-import com.opencart.utils.UserPoolManager;
-import com.opencart.utils.WaitUtils;
 import com.opencart.utils.WishListUtils;
 
 import org.slf4j.Logger;
@@ -21,6 +20,7 @@ import io.qameta.allure.testng.Tag;
 @Owner("saparbek.kozhanazar04@gmail.com")
 @Tag("regression")
 @Tag("ui")
+@NetworkProfile("lean")
 public class WishListTest extends BaseTest {
 
     private static final Logger logger = LoggerFactory.getLogger(WishListTest.class);
@@ -28,7 +28,6 @@ public class WishListTest extends BaseTest {
     private HomePage homePage;
     private ProductPage productPage;
     private WishlistPage wishlistPage;
-    private LoginPage loginPage;
 
     private static final String PRODUCT_NAME = "iMac";
     private static final String EXPECTED_MODEL = "Product 14";
@@ -38,15 +37,8 @@ public class WishListTest extends BaseTest {
         homePage = new HomePage();
         productPage = new ProductPage();
         wishlistPage = new WishlistPage();
-        loginPage = new LoginPage();
 
-        loginPage.navigateToLoginPage();
-        new WaitUtils().waitForPageLoad();
-
-        String email = UserPoolManager.acquireUser();
-        String password = getProp().getProperty("testUserPassword");
-
-        loginPage.login(email, password);
+        loginAsPooledUser();
     }
 
     @Test(description = "TC_045: Add Product to Wish List from Product Page",
@@ -100,7 +92,7 @@ public class WishListTest extends BaseTest {
 
         wishlistPage.removeProduct(PRODUCT_NAME);
 
-        Assert.assertFalse(wishlistPage.isProductInWishlist(PRODUCT_NAME), "Product was not removed");
+        Assert.assertTrue(wishlistPage.isProductGoneFromWishlist(PRODUCT_NAME), "Product was not removed");
     }
 
     @Test(description = "TC_049: Verify Stock Display in Wish List",
@@ -0,0 +1,124 @@
+package com.opencart.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timed spans for the BasePage primitives, kept per test thread for the Allure timeline and
+ * aggregated per locator for the suite's "slowest locators" report.
+ */
+public class ActionTimeline {
+
+    private static final int SLOWEST_LOCATORS_SHOWN = 30;
+
+    public record ActionSpan(String action, String locator, long startNanos, long millis, int attempts,
+                             String path, boolean succeeded) {
+    }
+
+    /**
+     * An action in progress; call {@link #end()} in a finally block.
+     */
+    public static final class Span {
+        private final String action;
+        private final String locator;
+        private final long startNanos = System.nanoTime();
+        private int attempts = 1;
+        private String path = "standard";
+        private boolean succeeded;
+
+        private Span(String action, String locator) {
+            this.action = action;
+            this.locator = locator;
+        }
+
+        public void attempts(int attempts) {
+            this.attempts = attempts;
+        }
+
+        public void path(String path) {
+            this.path = path;
+        }
+
+        public void succeeded() {
+            this.succeeded = true;
+        }
+
+        public void end() {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            spans.get().add(new ActionSpan(action, locator, startNanos, millis, attempts, path, succeeded));
+            suiteByLocator.computeIfAbsent(locator, key -> new LocatorStats()).add(millis, attempts);
+        }
+    }
+
+    private static final class LocatorStats {
+        private long count;
+        private long totalMillis;
+        private long maxMillis;
+        private long retries;
+
+        private synchronized void add(long millis, int attempts) {
+            count++;
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+            retries += attempts - 1;
+        }
+    }
+
+    private static final ThreadLocal<List<ActionSpan>> spans = ThreadLocal.withInitial(ArrayList::new);
+    private static final Map<String, LocatorStats> suiteByLocator = new ConcurrentHashMap<>();
+
+    static {
+        SuiteReport.atEnd(ActionTimeline::writeReport);
+    }
+
+    public static Span begin(String action, By locator) {
+        return new Span(action, String.valueOf(locator));
+    }
+
+    /**
+     * Returns and clears the spans recorded on the current thread.
+     */
+    public static List<ActionSpan> drain() {
+        List<ActionSpan> drained = List.copyOf(spans.get());
+        spans.get().clear();
+        return drained;
+    }
+
+    /**
+     * Renders spans as a timeline, offsets relative to the first one.
+     */
+    public static String format(List<ActionSpan> timeline) {
+        long origin = timeline.get(0).startNanos();
+        StringBuilder report = new StringBuilder(String.format("%8s %8s %-20s %3s %-9s %s%n",
+                "Start", "Took", "Action", "Try", "Path", "Locator"));
+        for (ActionSpan span : timeline) {
+            report.append(String.format("%6dms %6dms %-20s %3d %-9s %s%s%n",
+                    TimeUnit.NANOSECONDS.toMillis(span.startNanos() - origin), span.millis(), span.action(),
+                    span.attempts(), span.path(), span.locator(), span.succeeded() ? "" : "  [FAILED]"));
+        }
+        return report.toString();
+    }
+
+    private static void writeReport() {
+        if (suiteByLocator.isEmpty()) {
+            return;
+        }
+        StringBuilder report = new StringBuilder(String.format("%8s %10s %8s %8s %8s  %s%n",
+                "Calls", "Total", "Avg", "Max", "Retries", "Locator"));
+        suiteByLocator.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LocatorStats> e) -> e.getValue().totalMillis).reversed())
+                .limit(SLOWEST_LOCATORS_SHOWN)
+                .forEach(e -> {
+                    LocatorStats stats = e.getValue();
+                    report.append(String.format("%8d %8dms %6dms %6dms %8d  %s%n", stats.count, stats.totalMillis,
+                            stats.totalMillis / stats.count, stats.maxMillis, stats.retries, e.getKey()));
+                });
+        SuiteReport.writeSection("slowest-locators", report.toString());
+    }
+}
@@ -0,0 +1,267 @@
+package com.opencart.utils;
+
+import com.opencart.api.clients.CartApi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps one logged-in, cart-cleared API session per pooled user ready in the background, so an
+ * authenticated scenario starts without waiting for login. Background work on an account only runs
+ * while the pool holds the user (see {@link UserPoolManager#reserveUser(String)}): a customer's cart
+ * is shared by all its sessions, and even a login moves it to the new session. When a scenario ends
+ * its session comes back with the user's lease and is reused for the user's next scenario: only the
+ * cart is reset, and the user is released once that is done. A session is re-probed before reuse
+ * when it sat idle longer than authPool.probeIdleSeconds, and replaced by a fresh login after
+ * authPool.maxAgeSeconds. If someone else leased the user in between, the cart is reset again on take.
+ */
+public class AuthSessionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthSessionPool.class);
+
+    private static final boolean ENABLED = ConfigReader.getBooleanProperty("authPool.enabled", true);
+    private static final Duration MAX_AGE = Duration.ofSeconds(ConfigReader.getIntProperty("authPool.maxAgeSeconds", 900));
+    private static final Duration PROBE_IDLE = Duration.ofSeconds(ConfigReader.getIntProperty("authPool.probeIdleSeconds", 60));
+    private static final long REFRESH_CHECK_SECONDS = 30;
+
+    /**
+     * A session known to be logged in as of {@code checkedAt}, whose cart was emptied when the user
+     * had been leased {@code clearedAtLease} times (-1: not emptied).
+     */
+    private record ReadySession(SessionManager session, Instant checkedAt, long clearedAtLease) {
+
+        boolean isExpired() {
+            return Duration.between(session.getLoggedInAt(), Instant.now()).compareTo(MAX_AGE) > 0;
+        }
+
+        boolean isIdle() {
+            return Duration.between(checkedAt, Instant.now()).compareTo(PROBE_IDLE) > 0;
+        }
+    }
+
+    private static final Map<String, CompletableFuture<ReadySession>> ready = new ConcurrentHashMap<>();
+
+    private static final ExecutorService preparers = Executors.newFixedThreadPool(
+            Math.max(1, ConfigReader.getIntProperty("authPool.threads", 4)), daemonThreads("auth-pool"));
+    private static final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(daemonThreads("auth-pool-refresh"));
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong waits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong logins = new AtomicLong();
+    private static final AtomicLong reuses = new AtomicLong();
+    private static final AtomicLong probeFailures = new AtomicLong();
+
+    static {
+        if (ENABLED) {
+            refresher.scheduleWithFixedDelay(AuthSessionPool::maintain, REFRESH_CHECK_SECONDS, REFRESH_CHECK_SECONDS, TimeUnit.SECONDS);
+        }
+        SuiteReport.atEnd(AuthSessionPool::writeReport);
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Starts preparing a session in the background for each user nobody leases yet. Call before
+     * scenarios start, with the users the API scenarios will lease.
+     */
+    public static void warmUp(Collection<String> users) {
+        if (!ENABLED) {
+            return;
+        }
+        int started = 0;
+        for (String user : users) {
+            if (!ready.containsKey(user) && UserPoolManager.reserveUser(user)) {
+                ready.put(user, whileHeld(user, () -> prepare(user)));
+                started++;
+            }
+        }
+        logger.info("🔑 Preparing {} authenticated API session(s) in the background", started);
+    }
+
+    /**
+     * Returns a logged-in session for {@code email} with an empty cart: the ready one if there is
+     * one, the one being prepared if it is in flight, otherwise a new one prepared on the caller's thread.
+     * The caller must hold the user's lease.
+     */
+    public static SessionManager take(String email) {
+        CompletableFuture<ReadySession> pending = ENABLED ? ready.remove(email) : null;
+        if (pending != null) {
+            boolean inFlight = !pending.isDone();
+            try {
+                ReadySession prepared = pending.join();
+                if (!prepared.isExpired() && (!prepared.isIdle() || probe(prepared.session()))) {
+                    // Leased by someone else (e.g. a UI test) since the cart was emptied: empty it again
+                    if (prepared.clearedAtLease() != UserPoolManager.leaseCount(email) - 1) {
+                        new CartApi(prepared.session()).removeAllItems();
+                    }
+                    (inFlight ? waits : hits).incrementAndGet();
+                    logger.info("🔑 {} session for {}", inFlight ? "Waited for prepared" : "Took ready", email);
+                    return prepared.session();
+                }
+            } catch (CompletionException e) {
+                logger.warn("⚠️ Background preparation for {} failed, logging in now: {}", email, e.getCause().getMessage());
+            }
+        }
+        misses.incrementAndGet();
+        return prepare(email).session();
+    }
+
+    /**
+     * Takes back a session whose scenario is over together with the caller's lease of its user, resets
+     * the cart for the user's next scenario (logging in again if the session expired) and then releases
+     * the user. Releases the user right away when the pool is disabled.
+     */
+    public static void recycle(SessionManager session) {
+        String user = UserPoolManager.handOverLease();
+        if (user == null) {
+            return;
+        }
+        if (!ENABLED || !user.equals(session.getEmail())) {
+            UserPoolManager.returnUser(user);
+            return;
+        }
+        ready.put(user, whileHeld(user, () -> reuseOrPrepare(session)));
+    }
+
+    /**
+     * Like {@link #recycle(SessionManager)} for a user who logged out: prepares the next session while
+     * holding the caller's lease, then releases the user.
+     */
+    public static void replenish(String email) {
+        String user = UserPoolManager.handOverLease();
+        if (user == null) {
+            return;
+        }
+        if (!ENABLED || !user.equals(email)) {
+            UserPoolManager.returnUser(user);
+            return;
+        }
+        ready.put(user, whileHeld(user, () -> prepare(user)));
+    }
+
+    /**
+     * Runs background work for a user the pool holds and puts the user back into the pool afterwards.
+     */
+    private static CompletableFuture<ReadySession> whileHeld(String user, Supplier<ReadySession> work) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return work.get();
+            } finally {
+                UserPoolManager.returnUser(user);
+            }
+        }, preparers);
+    }
+
+    private static ReadySession reuseOrPrepare(SessionManager session) {
+        ReadySession previous = new ReadySession(session, Instant.now(), -1);
+        if (previous.isExpired() || !probe(session)) {
+            return prepare(session.getEmail());
+        }
+        new CartApi(session).removeAllItems();
+        reuses.incrementAndGet();
+        return new ReadySession(session, Instant.now(), UserPoolManager.leaseCount(session.getEmail()));
+    }
+
+    /**
+     * Logs in and empties the cart; only while the caller or the pool holds the user.
+     */
+    private static ReadySession prepare(String email) {
+        SessionManager session = login(email);
+        new CartApi(session).removeAllItems();
+        return new ReadySession(session, Instant.now(), UserPoolManager.leaseCount(email));
+    }
+
+    private static SessionManager login(String email) {
+        SessionManager session = new SessionManager();
+        session.loginAs(email);
+        logins.incrementAndGet();
+        return session;
+    }
+
+    private static boolean probe(SessionManager session) {
+        boolean alive = session.isAlive();
+        if (!alive) {
+            probeFailures.incrementAndGet();
+            logger.info("⌛ Session of {} expired server-side", session.getEmail());
+        }
+        return alive;
+    }
+
+    /**
+     * Re-logs expired or failed entries and probes idle ones, which also keeps them alive server-side.
+     * Skips users that are leased, e.g. to a UI test, and never touches carts: a login or probe only
+     * moves the cart between the customer's sessions, and take() empties it if needed.
+     */
+    private static void maintain() {
+        ready.forEach((email, pending) -> {
+            if (!pending.isDone()) {
+                return;
+            }
+            ReadySession current = pending.isCompletedExceptionally() ? null : pending.join();
+            if (current != null && !current.isExpired() && !current.isIdle()) {
+                return;
+            }
+            if (!UserPoolManager.reserveUser(email)) {
+                return;
+            }
+            // Atomic with take(): never starts work on a user a scenario has just taken
+            AtomicBoolean started = new AtomicBoolean();
+            ready.computeIfPresent(email, (user, entry) -> {
+                if (entry != pending) {
+                    return entry;
+                }
+                started.set(true);
+                return whileHeld(user, () -> revalidate(user, current));
+            });
+            if (!started.get()) {
+                UserPoolManager.returnUser(email);
+            }
+        });
+    }
+
+    private static ReadySession revalidate(String email, ReadySession current) {
+        if (current != null && !current.isExpired() && probe(current.session())) {
+            return new ReadySession(current.session(), Instant.now(), current.clearedAtLease());
+        }
+        // A new login leaves the cart's contents alone; take() empties it if the user was leased since
+        return new ReadySession(login(email), Instant.now(), current != null ? current.clearedAtLease() : -1);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void writeReport() {
+        long taken = hits.get() + waits.get() + misses.get();
+        if (taken == 0) {
+            return;
+        }
+        SuiteReport.put("Auth session pool", String.format(
+                "%d taken: %d ready, %d waited on, %d logged in on demand; %d logins, %d reuses, %d expired on probe",
+                taken, hits.get(), waits.get(), misses.get(), logins.get(), reuses.get(), probeFailures.get()));
+    }
+}
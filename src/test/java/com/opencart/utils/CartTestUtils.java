@@ -1,13 +1,31 @@
 package com.opencart.utils;
 
+import com.opencart.api.clients.CartApi;
+import com.opencart.api.clients.CatalogApi;
 import com.opencart.ui.models.CartSetupResult;
 import com.opencart.ui.pages.CartPage;
 import com.opencart.ui.pages.HomePage;
 import com.opencart.ui.pages.ProductPage;
+import io.restassured.response.Response;
+import org.jsoup.Jsoup;
+import org.openqa.selenium.Cookie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
 
 public class CartTestUtils {
+
+    private static final Logger logger = LoggerFactory.getLogger(CartTestUtils.class);
+
+    // "api" seeds the cart over HTTP with the browser's session, "ui" clicks through the storefront
+    private static final boolean API_SEEDING = ConfigReader.getProperty("cartSeeding.mode", "api").equalsIgnoreCase("api");
+
+    /**
+     * Leaves exactly {@code quantity} x {@code product} in the cart and opens the cart page.
+     * Seeds over HTTP when cartSeeding.mode=api, falling back to the UI if that fails.
+     */
     public static CartSetupResult prepareCartWithOnly(
             CartPage cartPage,
             HomePage homePage,
@@ -16,6 +34,53 @@ public class CartTestUtils {
             int quantity,
             String selectedSize) {
 
+        if (API_SEEDING) {
+            try {
+                return seedCartOverHttp(cartPage, product, quantity, selectedSize);
+            } catch (RuntimeException e) {
+                logger.warn("⚠️ API cart seeding failed, using the UI: {}", e.getMessage());
+            }
+        }
+        return prepareCartInBrowser(cartPage, homePage, productPage, product, quantity, selectedSize);
+    }
+
+    /**
+     * Same end state as the UI path: the browser's cart is emptied and the product added through
+     * CartApi on the browser's OCSESSID, then the cart page is loaded once.
+     */
+    private static CartSetupResult seedCartOverHttp(CartPage cartPage, String product, int quantity, String selectedSize) {
+        Cookie browserSession = DriverFactory.getDriver().manage().getCookieNamed("OCSESSID");
+        if (browserSession == null) {
+            throw new RuntimeException("browser has no OCSESSID cookie yet");
+        }
+        SessionManager session = SessionManager.forBrowser(browserSession.getValue());
+        CatalogApi catalogApi = new CatalogApi(session);
+        CartApi cartApi = new CartApi(session);
+
+        int productId = catalogApi.findProductId(product);
+        Map<String, String> options = catalogApi.findSelectOption(productId, selectedSize);
+
+        cartApi.removeAllItems();
+        Response added = cartApi.addToCart(productId, quantity, options);
+        if (added.jsonPath().get("error") != null) {
+            throw new RuntimeException("add to cart rejected: " + added.jsonPath().get("error"));
+        }
+        // The JSON message is HTML with links around the product and cart names
+        String successMsg = Jsoup.parse(added.jsonPath().getString("success")).text();
+        logger.info("🌱 Seeded cart over HTTP: {} x {} ({})", quantity, product, successMsg);
+
+        cartPage.navigateToCart();
+        return new CartSetupResult(successMsg, cartPage.isProductInCart(product));
+    }
+
+    private static CartSetupResult prepareCartInBrowser(
+            CartPage cartPage,
+            HomePage homePage,
+            ProductPage productPage,
+            String product,
+            int quantity,
+            String selectedSize) {
+
         cartPage.navigateToCart();
         List<String> currentProducts = cartPage.getAllProductNamesInCart();
 
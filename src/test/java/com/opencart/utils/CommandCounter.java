@@ -0,0 +1,198 @@
+package com.opencart.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the remote commands each test sends through its WebDriver, by command and by the
+ * page-object method that issued them, together with the time spent waiting on the wire.
+ * Counting is per thread: a session is only ever leased to one test thread at a time.
+ */
+public class CommandCounter implements WebDriverListener {
+
+    private static final CommandCounter INSTANCE = new CommandCounter();
+
+    // Accessors that return a local helper object instead of talking to the driver
+    private static final Set<String> LOCAL_CALLS = Set.of("navigate", "manage", "switchTo", "timeouts", "window",
+            "getWrappedDriver", "getWrappedElement", "getCapabilities", "getDevTools", "maybeGetDevTools",
+            "toString", "hashCode", "equals");
+
+    // Framework layers skipped when attributing a command to its caller
+    private static final Set<String> INFRASTRUCTURE = Set.of("com.opencart.ui.base.BasePage",
+            "com.opencart.utils.WaitUtils", "com.opencart.utils.DomQuery", "com.opencart.utils.DomWatcher",
+            "com.opencart.utils.SettleDetector", "com.opencart.utils.PageLoadTimings",
+            "com.opencart.utils.DriverFactory", "com.opencart.utils.CommandCounter");
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private static final ThreadLocal<Usage> usage = ThreadLocal.withInitial(Usage::new);
+    private static final ThreadLocal<Deque<InFlight>> inFlight = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static final Map<String, Tally> suiteByCaller = new ConcurrentHashMap<>();
+    private static final AtomicLong suiteCommands = new AtomicLong();
+    private static final AtomicLong suiteTests = new AtomicLong();
+
+    static {
+        SuiteReport.atEnd(CommandCounter::writeReport);
+    }
+
+    private record InFlight(String command, String caller, long startNanos) {
+    }
+
+    public static final class Tally {
+        private long count;
+        private long nanos;
+
+        public long count() {
+            return count;
+        }
+
+        public long millis() {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
+
+        private synchronized void add(long elapsedNanos) {
+            count++;
+            nanos += elapsedNanos;
+        }
+    }
+
+    /**
+     * Commands recorded on one thread since the last {@link #reset()}.
+     */
+    public static final class Usage {
+        private final Map<String, Tally> byCommand = new HashMap<>();
+        private final Map<String, Tally> byCaller = new HashMap<>();
+        private long total;
+        private long wireNanos;
+
+        public long total() {
+            return total;
+        }
+
+        public long wireMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(wireNanos);
+        }
+
+        public String format() {
+            StringBuilder report = new StringBuilder(String.format("%d WebDriver commands, %d ms on the wire%n", total, wireMillis()));
+            report.append(String.format("%nBy command:%n"));
+            appendSorted(report, byCommand);
+            report.append(String.format("%nBy page-object method:%n"));
+            appendSorted(report, byCaller);
+            return report.toString();
+        }
+
+        private void record(String command, String caller, long elapsedNanos) {
+            total++;
+            wireNanos += elapsedNanos;
+            byCommand.computeIfAbsent(command, key -> new Tally()).add(elapsedNanos);
+            byCaller.computeIfAbsent(caller, key -> new Tally()).add(elapsedNanos);
+        }
+    }
+
+    /**
+     * Wraps a freshly created session so its commands are counted.
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(INSTANCE).decorate(driver);
+    }
+
+    public static void reset() {
+        usage.remove();
+        inFlight.get().clear();
+    }
+
+    /**
+     * Returns the current thread's usage and starts a new count.
+     */
+    public static Usage drain() {
+        Usage drained = usage.get();
+        reset();
+        return drained;
+    }
+
+    /**
+     * Counts a finished test towards the suite average.
+     */
+    public static void countTest() {
+        suiteTests.incrementAndGet();
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (LOCAL_CALLS.contains(method.getName())) {
+            return;
+        }
+        inFlight.get().push(new InFlight(method.getName(), findCaller(), System.nanoTime()));
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    private void finish(Method method) {
+        if (LOCAL_CALLS.contains(method.getName())) {
+            return;
+        }
+        InFlight call = inFlight.get().poll();
+        if (call == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - call.startNanos();
+        usage.get().record(call.command(), call.caller(), elapsed);
+        suiteByCaller.computeIfAbsent(call.caller(), key -> new Tally()).add(elapsed);
+        suiteCommands.incrementAndGet();
+    }
+
+    private static String findCaller() {
+        return WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("com.opencart.")
+                        && !INFRASTRUCTURE.contains(frame.getClassName()))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse("(framework)"));
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static void appendSorted(StringBuilder report, Map<String, Tally> tallies) {
+        tallies.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Tally> e) -> e.getValue().count()).reversed())
+                .forEach(e -> report.append(String.format("%8d %8d ms  %s%n", e.getValue().count(), e.getValue().millis(), e.getKey())));
+    }
+
+    private static void writeReport() {
+        if (suiteCommands.get() == 0) {
+            return;
+        }
+        StringBuilder report = new StringBuilder(String.format("%8s %11s  %s%n", "Commands", "Wire time", "Page-object method"));
+        appendSorted(report, suiteByCaller);
+        SuiteReport.writeSection("webdriver-commands", report.toString());
+
+        long tests = Math.max(1, suiteTests.get());
+        SuiteReport.put("WebDriver commands", String.format("%d total, %d per test on average",
+                suiteCommands.get(), suiteCommands.get() / tests));
+    }
+}
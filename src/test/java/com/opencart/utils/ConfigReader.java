@@ -29,4 +29,27 @@ public class ConfigReader {
         return prop.getProperty(key);
     }
 
+    /**
+     * Resolves a setting from a -D system property first, then config.properties, then the default.
+     */
+    public static String getProperty(String key, String defaultValue) {
+        String value = System.getProperty(key, prop.getProperty(key));
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key, null);
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid integer for '{}': '{}', using default {}", key, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = getProperty(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
 }
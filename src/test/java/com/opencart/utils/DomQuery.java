@@ -0,0 +1,110 @@
+package com.opencart.utils;
+
+import com.opencart.ui.models.ElementState;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves locators inside the page with a single script call. Unlike findElement(s) this never
+ * waits for the implicit wait, so it is the cheap way to ask "is it there right now?".
+ */
+public class DomQuery {
+
+    /**
+     * Page-side helpers shared by every DOM script: ocFind(using, value) mirrors the WebDriver
+     * locator strategies, ocVisible(el) approximates WebElement.isDisplayed().
+     */
+    public static final String HELPERS =
+            "function ocFind(using, value) {" +
+            "  var out = [];" +
+            "  if (using === 'css selector') { return Array.prototype.slice.call(document.querySelectorAll(value)); }" +
+            "  if (using === 'xpath') {" +
+            "    var res = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "    for (var i = 0; i < res.snapshotLength; i++) { out.push(res.snapshotItem(i)); }" +
+            "    return out;" +
+            "  }" +
+            "  if (using === 'tag name') { return Array.prototype.slice.call(document.getElementsByTagName(value)); }" +
+            "  var links = document.getElementsByTagName('a');" +
+            "  for (var j = 0; j < links.length; j++) {" +
+            "    var text = (links[j].textContent || '').replace(/\\s+/g, ' ').trim();" +
+            "    if (using === 'link text' ? text === value : text.indexOf(value) !== -1) { out.push(links[j]); }" +
+            "  }" +
+            "  return out;" +
+            "}" +
+            "function ocVisible(el) {" +
+            "  if (!el || !el.isConnected) { return false; }" +
+            "  var style = window.getComputedStyle(el);" +
+            "  if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') { return false; }" +
+            "  return el.getClientRects().length > 0 && (el.offsetWidth > 0 || el.offsetHeight > 0);" +
+            "}";
+
+    private static final String COUNT_SCRIPT = HELPERS +
+            "return ocFind(arguments[0], arguments[1]).length;";
+
+    private static final String VISIBLE_SCRIPT = HELPERS +
+            "var found = ocFind(arguments[0], arguments[1]);" +
+            "return found.length > 0 && ocVisible(found[0]);";
+
+    private static final String STATES_SCRIPT = HELPERS +
+            "var locators = arguments[0], names = arguments[1];" +
+            "return locators.map(function (l) {" +
+            "  var el = ocFind(l[0], l[1])[0];" +
+            "  if (!el) { return null; }" +
+            "  var shown = ocVisible(el), attrs = {};" +
+            "  names.forEach(function (n) { attrs[n] = el.getAttribute(n); });" +
+            "  return [shown, shown ? (el.innerText || '').trim() : '', attrs];" +
+            "});";
+
+    /**
+     * Converts a locator to the [using, value] pair the helpers understand.
+     */
+    public static List<Object> locatorArgs(By locator) {
+        if (!(locator instanceof By.Remotable remotable)) {
+            throw new IllegalArgumentException("Locator cannot be resolved in the page: " + locator);
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        return List.of(parameters.using(), String.valueOf(parameters.value()));
+    }
+
+    public static int count(WebDriver driver, By locator) {
+        List<Object> args = locatorArgs(locator);
+        Object result = ((JavascriptExecutor) driver).executeScript(COUNT_SCRIPT, args.get(0), args.get(1));
+        return result instanceof Number number ? number.intValue() : 0;
+    }
+
+    public static boolean isPresent(WebDriver driver, By locator) {
+        return count(driver, locator) > 0;
+    }
+
+    /**
+     * Reads presence, visibility, text and the named attributes of every locator in one script call.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<By, ElementState> states(WebDriver driver, List<By> locators, List<String> attributeNames) {
+        List<List<Object>> args = locators.stream().map(DomQuery::locatorArgs).toList();
+        List<Object> results = (List<Object>) ((JavascriptExecutor) driver).executeScript(STATES_SCRIPT, args, attributeNames);
+
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        for (int i = 0; i < locators.size(); i++) {
+            if (!(results.get(i) instanceof List<?> values)) {
+                states.put(locators.get(i), ElementState.absent());
+                continue;
+            }
+            Map<String, String> attributes = new HashMap<>();
+            ((Map<String, Object>) values.get(2)).forEach((name, value) -> attributes.put(name, value == null ? null : value.toString()));
+            states.put(locators.get(i), new ElementState(true, Boolean.TRUE.equals(values.get(0)), (String) values.get(1), attributes));
+        }
+        return states;
+    }
+
+    public static boolean isVisible(WebDriver driver, By locator) {
+        List<Object> args = locatorArgs(locator);
+        return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(VISIBLE_SCRIPT, args.get(0), args.get(1)));
+    }
+}
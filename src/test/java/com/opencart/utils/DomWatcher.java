@@ -0,0 +1,105 @@
+package com.opencart.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Event-driven waits: a MutationObserver in the page re-checks the condition on every DOM change
+ * and the call returns as soon as it holds, so a wait costs one remote command instead of a
+ * findElement round-trip every 500 ms.
+ */
+public class DomWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomWatcher.class);
+
+    // Stay well below the driver's default 30 s script timeout; longer waits are split into slices
+    private static final long SLICE_MS = 10_000;
+
+    public enum Mode {
+        /** First match is displayed. */
+        VISIBLE,
+        /** No match, or the first match is hidden. */
+        HIDDEN,
+        /** First match is displayed and its text is non-empty and differs from the given one. */
+        TEXT
+    }
+
+    public record Result(WebElement element, String text) {
+    }
+
+    private static final String WATCH_SCRIPT = DomQuery.HELPERS +
+            "var using = arguments[0], value = arguments[1], mode = arguments[2], previous = arguments[3];" +
+            "var timeoutMs = arguments[4], done = arguments[arguments.length - 1];" +
+            "function evaluate() {" +
+            "  var el = ocFind(using, value)[0];" +
+            "  var shown = !!el && ocVisible(el);" +
+            "  if (mode === 'HIDDEN') { return shown ? null : [null, null]; }" +
+            "  if (!shown) { return null; }" +
+            "  if (mode === 'VISIBLE') { return [el, null]; }" +
+            "  var text = (el.innerText || el.textContent || '').trim();" +
+            "  return text && text !== previous ? [el, text] : null;" +
+            "}" +
+            "var initial = evaluate();" +
+            "if (initial) { done(initial); return; }" +
+            "var finished = false, observer, poll, timer;" +
+            "function finish(result) {" +
+            "  if (finished) { return; }" +
+            "  finished = true; observer.disconnect(); clearInterval(poll); clearTimeout(timer);" +
+            "  done(result);" +
+            "}" +
+            "function recheck() { var result = evaluate(); if (result) { finish(result); } }" +
+            "observer = new MutationObserver(recheck);" +
+            "observer.observe(document.documentElement, { childList: true, subtree: true, attributes: true, characterData: true });" +
+            // CSS transitions change visibility without a mutation; a slow in-page poll covers them
+            "poll = setInterval(recheck, 200);" +
+            "timer = setTimeout(function () { finish(null); }, timeoutMs);";
+
+    public static boolean isEnabled() {
+        return !ConfigReader.getProperty("waits.engine", "observer").equalsIgnoreCase("polling");
+    }
+
+    public static boolean supports(By locator) {
+        return locator instanceof By.Remotable;
+    }
+
+    /**
+     * Blocks until the condition holds for the locator; throws {@link TimeoutException} like WebDriverWait.
+     */
+    public static Result await(WebDriver driver, By locator, Mode mode, String previousText, Duration timeout) {
+        List<Object> args = DomQuery.locatorArgs(locator);
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        int failures = 0;
+
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new TimeoutException(String.format("Timed out after %d s waiting for %s of %s",
+                        timeout.toSeconds(), mode, locator));
+            }
+            try {
+                Object result = ((JavascriptExecutor) driver).executeAsyncScript(WATCH_SCRIPT,
+                        args.get(0), args.get(1), mode.name(), previousText, Math.min(remaining, SLICE_MS));
+                failures = 0;
+                if (result instanceof List<?> values) {
+                    return new Result((WebElement) values.get(0), (String) values.get(1));
+                }
+            } catch (WebDriverException e) {
+                // Navigation replaced the document while watching; start over on the new one.
+                // Repeated failures mean the script itself can't run here, let the caller fall back.
+                if (++failures >= 3) {
+                    throw e;
+                }
+                logger.debug("DOM watch interrupted for {}: {}", locator, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.opencart.utils;
 
 import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.NetworkInterceptor;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.remote.RemoteWebDriver;
@@ -13,24 +15,161 @@ import org.slf4j.LoggerFactory;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
 
 public class DriverFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(DriverFactory.class);
-    private static final ThreadLocal<WebDriver> tlDriver = new ThreadLocal<>();
+    private static final ThreadLocal<PooledDriver> tlDriver = new ThreadLocal<>();
 
     // Auto-detect Selenium Grid URL based on Jenkins environment
     private static final String GRID_URL = System.getenv("JENKINS_HOME") != null
             ? "http://selenium-hub:4444/wd/hub"
             : "http://localhost:4444/wd/hub";
 
+    // Session pool: idle, already reset drivers per browser, reused until maxReuse leases
+    private static final boolean POOL_ENABLED = ConfigReader.getBooleanProperty("driverPool.enabled", true);
+    private static final int MAX_REUSE = ConfigReader.getIntProperty("driverPool.maxReuse", 25);
+    private static final int MAX_IDLE_PER_BROWSER = ConfigReader.getIntProperty("driverPool.maxIdlePerBrowser", 4);
+    private static final Map<String, BlockingDeque<PooledDriver>> idleDrivers = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverFactory::shutdownPool, "driver-pool-shutdown"));
+    }
+
+    /**
+     * Hands the current thread a live session for the browser: an idle pooled one when available
+     * and healthy, otherwise a freshly started one.
+     */
     public static WebDriver initDriver(String browser) {
+        String browserKey = browser.toLowerCase(Locale.ROOT);
+        PooledDriver pooled = POOL_ENABLED ? takeIdleDriver(browserKey) : null;
+
+        if (pooled == null) {
+            pooled = new PooledDriver(browserKey, createDriver(browser));
+        } else {
+            logger.info("♻️ Reusing pooled {} session (lease #{})", browserKey, pooled.leases + 1);
+        }
+
+        pooled.leases++;
+        tlDriver.set(pooled);
+        CommandCounter.reset();
+        return getDriver();
+    }
+
+    /**
+     * Applies a network profile (see {@link NetworkFilter#parseProfile}) to the current thread's
+     * session until it is released. Only Chrome supports request filtering; other browsers run unfiltered.
+     */
+    public static void applyNetworkProfile(String profile) {
+        PooledDriver pooled = tlDriver.get();
+        if (pooled == null) {
+            return;
+        }
+
+        Set<NetworkFilter.ResourceClass> classes = NetworkFilter.parseProfile(profile);
+        if (!classes.isEmpty() && !pooled.browser.equals("chrome")) {
+            logger.debug("Network profile '{}' ignored for {}", profile, pooled.browser);
+            classes = EnumSet.noneOf(NetworkFilter.ResourceClass.class);
+        }
+
+        if (!classes.isEmpty()) {
+            try {
+                if (pooled.devToolsDriver == null) {
+                    pooled.devToolsDriver = NetworkFilter.withDevTools(pooled.driver);
+                }
+                pooled.networkInterceptor = NetworkFilter.install(pooled.devToolsDriver, classes);
+            } catch (Exception e) {
+                logger.warn("⚠️ Could not apply network profile '{}': {}", profile, e.getMessage());
+                classes = EnumSet.noneOf(NetworkFilter.ResourceClass.class);
+            }
+        }
+        PageLoadTimings.setProfile(NetworkFilter.describe(classes));
+    }
+
+    /**
+     * Starts the requested number of sessions per browser in parallel and parks them in the idle
+     * pool, so the first wave of tests doesn't queue on session creation.
+     */
+    public static void prewarm(Map<String, Integer> sessionsPerBrowser) {
+        if (!POOL_ENABLED) {
+            logger.info("Driver pool disabled, skipping pre-warm");
+            return;
+        }
+
+        List<Callable<Long>> startups = new ArrayList<>();
+        sessionsPerBrowser.forEach((browser, requested) -> {
+            String browserKey = browser.toLowerCase(Locale.ROOT);
+            int count = Math.min(requested, MAX_IDLE_PER_BROWSER);
+            for (int i = 0; i < count; i++) {
+                startups.add(() -> {
+                    long start = System.nanoTime();
+                    WebDriver driver = createDriver(browser);
+                    long elapsed = System.nanoTime() - start;
+                    PooledDriver pooled = new PooledDriver(browserKey, driver);
+                    if (!idleDeque(browserKey).offerLast(pooled)) {
+                        retire(pooled, "idle pool full");
+                    }
+                    return elapsed;
+                });
+            }
+        });
+        if (startups.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(startups.size());
+        long wallStart = System.nanoTime();
+        long serialNanos = 0;
+        int started = 0;
+        try {
+            for (Future<Long> startup : executor.invokeAll(startups)) {
+                try {
+                    serialNanos += startup.get();
+                    started++;
+                } catch (ExecutionException e) {
+                    logger.warn("⚠️ Pre-warm session failed to start: {}", e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("🛑 Driver pre-warm interrupted");
+        } finally {
+            executor.shutdown();
+        }
+        long wallNanos = System.nanoTime() - wallStart;
+
+        long wallMs = TimeUnit.NANOSECONDS.toMillis(wallNanos);
+        long serialMs = TimeUnit.NANOSECONDS.toMillis(serialNanos);
+        logger.info("🔥 Pre-warmed {} session(s) {} in {} ms (serial startup would take {} ms)",
+                started, sessionsPerBrowser, wallMs, serialMs);
+        SuiteReport.put("Driver pre-warm sessions", started + " " + sessionsPerBrowser);
+        SuiteReport.put("Driver pre-warm wall time", wallMs + " ms");
+        SuiteReport.put("Driver pre-warm startup saved", Math.max(0, serialMs - wallMs) + " ms");
+    }
+
+    private static WebDriver createDriver(String browser) {
         logger.info("🚀 Initializing WebDriver for browser: {}", browser);
 
         // Determine whether to run on local or grid
         String runMode = System.getProperty("mode", System.getenv("JENKINS_HOME") != null ? "grid" : "local");
         boolean isRemote = runMode.equalsIgnoreCase("grid");
 
+        WebDriver driver;
         try {
             if (browser.equalsIgnoreCase("chrome")) {
                 ChromeOptions options = new ChromeOptions();
@@ -43,20 +182,20 @@ public class DriverFactory {
                 }
 
                 if (isRemote) {
-                    tlDriver.set(new RemoteWebDriver(new URL(GRID_URL), options));
+                    driver = new RemoteWebDriver(new URL(GRID_URL), options);
                 } else {
                     WebDriverManager.chromedriver().setup();
-                    tlDriver.set(new ChromeDriver(options));
+                    driver = new ChromeDriver(options);
                 }
 
             } else if (browser.equalsIgnoreCase("firefox")) {
                 FirefoxOptions options = new FirefoxOptions();
 
                 if (isRemote) {
-                    tlDriver.set(new RemoteWebDriver(new URL(GRID_URL), options));
+                    driver = new RemoteWebDriver(new URL(GRID_URL), options);
                 } else {
                     WebDriverManager.firefoxdriver().setup();
-                    tlDriver.set(new FirefoxDriver(options));
+                    driver = new FirefoxDriver(options);
                 }
 
             } else {
@@ -64,28 +203,160 @@ public class DriverFactory {
                 throw new IllegalArgumentException("Unsupported browser: " + browser);
             }
 
-            logger.info("✅ WebDriver initialized successfully: {}", tlDriver.get());
+            logger.info("✅ WebDriver initialized successfully: {}", driver);
 
-            tlDriver.get().manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-            tlDriver.get().manage().window().maximize();
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+            driver.manage().window().maximize();
 
         } catch (MalformedURLException e) {
             logger.error("❌ Grid URL is malformed", e);
             throw new RuntimeException(e);
         }
 
-        return getDriver();
+        return driver;
     }
 
+    /**
+     * The current thread's session, wrapped so its commands are counted (see {@link CommandCounter}).
+     */
     public static WebDriver getDriver() {
-        return tlDriver.get();
+        PooledDriver pooled = tlDriver.get();
+        return pooled != null ? pooled.countedDriver : null;
     }
 
+    /**
+     * Returns the current thread's session to the pool after resetting it. Sessions that reached
+     * driverPool.maxReuse, fail to reset, or don't fit in the idle pool are quit instead.
+     */
+    public static void releaseDriver() {
+        PooledDriver pooled = tlDriver.get();
+        if (pooled == null) {
+            return;
+        }
+        tlDriver.remove();
+        removeNetworkProfile(pooled);
+
+        if (!POOL_ENABLED) {
+            retire(pooled, "pool disabled");
+        } else if (pooled.leases >= MAX_REUSE) {
+            retire(pooled, "reached max reuse of " + MAX_REUSE);
+        } else if (!resetSession(pooled.driver)) {
+            retire(pooled, "reset failed");
+        } else if (!idleDeque(pooled.browser).offerFirst(pooled)) {
+            retire(pooled, "idle pool full");
+        } else {
+            logger.info("♻️ {} session returned to pool after {} lease(s)", pooled.browser, pooled.leases);
+        }
+    }
+
+    /**
+     * Quits the current thread's session without returning it to the pool.
+     */
     public static void quitDriver() {
-        if (tlDriver.get() != null) {
-            tlDriver.get().quit();
+        PooledDriver pooled = tlDriver.get();
+        if (pooled != null) {
             tlDriver.remove();
+            retire(pooled, "quit requested");
             logger.info("🧹 WebDriver quit and ThreadLocal cleared.");
         }
     }
+
+    private static void removeNetworkProfile(PooledDriver pooled) {
+        if (pooled.networkInterceptor != null) {
+            try {
+                pooled.networkInterceptor.close();
+            } catch (Exception e) {
+                logger.warn("⚠️ Could not remove network profile: {}", e.getMessage());
+            }
+            pooled.networkInterceptor = null;
+        }
+    }
+
+    private static PooledDriver takeIdleDriver(String browser) {
+        BlockingDeque<PooledDriver> idle = idleDeque(browser);
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (isHealthy(pooled.driver)) {
+                return pooled;
+            }
+            retire(pooled, "failed health check");
+        }
+        return null;
+    }
+
+    private static BlockingDeque<PooledDriver> idleDeque(String browser) {
+        return idleDrivers.computeIfAbsent(browser, key -> new LinkedBlockingDeque<>(MAX_IDLE_PER_BROWSER));
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            logger.warn("⚠️ Pooled session is not responsive: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Clears everything a previous test could leave behind: extra windows, cookies and
+     * local/session storage of the current origin, then parks the session on about:blank.
+     */
+    private static boolean resetSession(WebDriver driver) {
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            if (handles.size() > 1) {
+                for (String handle : handles.subList(1, handles.size())) {
+                    driver.switchTo().window(handle).close();
+                }
+                driver.switchTo().window(handles.get(0));
+            }
+
+            String url = driver.getCurrentUrl();
+            if (url != null && url.startsWith("http")) {
+                driver.manage().deleteAllCookies();
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            }
+            driver.navigate().to("about:blank");
+            return true;
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not reset session for reuse: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void retire(PooledDriver pooled, String reason) {
+        try {
+            pooled.driver.quit();
+            logger.info("🧹 Retired {} session after {} lease(s): {}", pooled.browser, pooled.leases, reason);
+        } catch (Exception e) {
+            logger.warn("⚠️ Failed to quit {} session: {}", pooled.browser, e.getMessage());
+        }
+    }
+
+    private static void shutdownPool() {
+        idleDrivers.values().forEach(idle -> {
+            PooledDriver pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                retire(pooled, "suite finished");
+            }
+        });
+    }
+
+    private static final class PooledDriver {
+        private final String browser;
+        // Pool housekeeping and DevTools use the raw session so they don't count against tests
+        private final WebDriver driver;
+        private final WebDriver countedDriver;
+        private WebDriver devToolsDriver;
+        private NetworkInterceptor networkInterceptor;
+        private int leases;
+
+        private PooledDriver(String browser, WebDriver driver) {
+            this.browser = browser;
+            this.driver = driver;
+            this.countedDriver = CommandCounter.decorate(driver);
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package com.opencart.utils;
+
+import com.opencart.api.clients.ApiRoutes;
+import io.restassured.filter.cookie.CookieFilter;
+import io.restassured.response.Response;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logs the browser in without the login form: the storefront session is created over HTTP on the
+ * UI host and its OCSESSID cookie is injected into the WebDriver cookie jar.
+ * Sessions are cached per pooled user and re-validated against account/account before reuse.
+ */
+public class FastAuth {
+
+    private static final Logger logger = LoggerFactory.getLogger(FastAuth.class);
+
+    private static final String SESSION_COOKIE = "OCSESSID";
+
+    // Same-origin page that is cheap to load; the browser must be on the domain before cookies can be set
+    private static final String LANDING_PATH = ConfigReader.getProperty("fastAuth.landingPath", "robots.txt");
+
+    private static final Map<String, String> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Puts a logged-in session for {@code email} into the browser. The caller navigates afterwards.
+     */
+    public static void login(WebDriver driver, String email, String password) {
+        String sessionId = sessions.get(email);
+        if (sessionId == null || !isValid(sessionId)) {
+            sessionId = createSession(email, password);
+            sessions.put(email, sessionId);
+        } else {
+            logger.info("♻️ Reusing cached session for {}", email);
+        }
+
+        String baseUrl = ConfigReader.getProperty("baseUrl");
+        driver.navigate().to(baseUrl + LANDING_PATH);
+        driver.manage().deleteCookieNamed(SESSION_COOKIE);
+        driver.manage().addCookie(new Cookie(SESSION_COOKIE, sessionId, "/"));
+        logger.info("🍪 Injected session cookie for {}", email);
+    }
+
+    /**
+     * Drops the cached session, e.g. after the user logged out through the UI.
+     */
+    public static void forget(String email) {
+        if (email != null) {
+            sessions.remove(email);
+        }
+    }
+
+    private static String createSession(String email, String password) {
+        Response response = SpecFactory.getFormRequestSpec(host(), new CookieFilter())
+                .formParam("email", email)
+                .formParam("password", password)
+                .post(ApiRoutes.LOGIN);
+
+        String location = response.getHeader("Location");
+        if (location == null || !location.contains("account/account")) {
+            throw new RuntimeException("❌ HTTP login failed for " + email + " (status " + response.statusCode() + ")");
+        }
+
+        String sessionId = response.getCookie(SESSION_COOKIE);
+        if (sessionId == null) {
+            throw new RuntimeException("❌ " + SESSION_COOKIE + " not found after HTTP login for " + email);
+        }
+
+        logger.info("✅ Logged in over HTTP: {}", email);
+        return sessionId;
+    }
+
+    /**
+     * account/account answers 200 for a live session and redirects to the login page otherwise.
+     */
+    private static boolean isValid(String sessionId) {
+        try {
+            int status = SpecFactory.getRequestSpec(host(), new CookieFilter())
+                    .cookie(SESSION_COOKIE, sessionId)
+                    .get(ApiRoutes.ACCOUNT)
+                    .statusCode();
+            return status == 200;
+        } catch (Exception e) {
+            logger.warn("⚠️ Could not validate cached session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static String host() {
+        String baseUrl = ConfigReader.getProperty("baseUrl");
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+}
@@ -0,0 +1,130 @@
+package com.opencart.utils;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.client.params.CookiePolicy;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keep-alive connection pool shared by every RestAssured request (see {@link SpecFactory}).
+ * RestAssured otherwise opens a new connection, and for https a new TLS handshake, per request.
+ * Each request still gets its own lightweight client, because RestAssured changes client params
+ * and interceptors per request; only the pooled connections are shared. Pool sizes come from
+ * http.pool.maxTotal and http.pool.maxPerRoute; connections the server doesn't time out itself
+ * are kept for http.pool.keepAliveSeconds.
+ */
+// RestAssured 5 drives HttpClient 4 through AbstractHttpClient and its connection-manager and params
+// APIs, all deprecated upstream; the replacements (HttpClientBuilder, PoolingHttpClientConnectionManager)
+// produce clients RestAssured cannot use. The deprecated types stay confined to this class.
+@SuppressWarnings("deprecation")
+public class HttpTransport {
+
+    private static final long KEEP_ALIVE_MILLIS = ConfigReader.getIntProperty("http.pool.keepAliveSeconds", 30) * 1000L;
+
+    /**
+     * Requests sent and connections opened (TCP connect plus TLS handshake for https) per host.
+     */
+    private static final class HostStats {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong connects = new AtomicLong();
+    }
+
+    private static final Map<String, HostStats> stats = new ConcurrentHashMap<>();
+
+    private static final PoolingClientConnectionManager pool = new CountingConnectionManager(SchemeRegistryFactory.createDefault());
+
+    static {
+        pool.setMaxTotal(Math.max(1, ConfigReader.getIntProperty("http.pool.maxTotal", 20)));
+        pool.setDefaultMaxPerRoute(Math.max(1, ConfigReader.getIntProperty("http.pool.maxPerRoute", 10)));
+        SuiteReport.atEnd(HttpTransport::writeReport);
+    }
+
+    /**
+     * Client for one request, backed by the shared pool. Used as RestAssured's HttpClientFactory.
+     */
+    static HttpClient newClient() {
+        DefaultHttpClient client = new DefaultHttpClient(pool);
+        // Cookies are kept by each session's CookieFilter, never by the transport
+        client.getParams().setParameter(ClientPNames.COOKIE_POLICY, CookiePolicy.IGNORE_COOKIES);
+        client.setKeepAliveStrategy((response, context) -> {
+            long serverTimeout = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverTimeout > 0 ? Math.min(serverTimeout, KEEP_ALIVE_MILLIS) : KEEP_ALIVE_MILLIS;
+        });
+        return client;
+    }
+
+    private static HostStats statsFor(HttpHost host) {
+        return stats.computeIfAbsent(host.toHostString(), key -> new HostStats());
+    }
+
+    private static final class CountingConnectionManager extends PoolingClientConnectionManager {
+
+        private CountingConnectionManager(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry);
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            statsFor(route.getTargetHost()).requests.incrementAndGet();
+            return super.requestConnection(route, state);
+        }
+
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+            return new DefaultClientConnectionOperator(schemeRegistry) {
+                @Override
+                public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                                           HttpContext context, HttpParams params) throws IOException {
+                    statsFor(target).connects.incrementAndGet();
+                    super.openConnection(conn, target, local, context, params);
+                }
+            };
+        }
+    }
+
+    private static void writeReport() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        long requests = 0;
+        long connects = 0;
+
+        StringBuilder report = new StringBuilder(String.format("%-40s %9s %12s %9s%n", "Host", "Requests", "Connections", "Reused"));
+        for (Map.Entry<String, HostStats> entry : new TreeMap<>(stats).entrySet()) {
+            long hostRequests = entry.getValue().requests.get();
+            long hostConnects = entry.getValue().connects.get();
+            requests += hostRequests;
+            connects += hostConnects;
+            report.append(String.format("%-40s %9d %12d %8.0f%%%n", entry.getKey(), hostRequests, hostConnects, reuse(hostRequests, hostConnects)));
+        }
+        report.append(String.format("%nConnections = TCP connects (plus TLS handshakes for https); pool maxTotal=%d, maxPerRoute=%d%n",
+                pool.getMaxTotal(), pool.getDefaultMaxPerRoute()));
+
+        SuiteReport.writeSection("http-connections", report.toString());
+        SuiteReport.put("HTTP connections", String.format("%d requests over %d connections (%.0f%% reused)",
+                requests, connects, reuse(requests, connects)));
+    }
+
+    private static double reuse(long requests, long connects) {
+        return requests == 0 ? 0 : 100.0 * Math.max(0, requests - connects) / requests;
+    }
+}
@@ -0,0 +1,214 @@
+package com.opencart.utils;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Cookie;
+import io.restassured.http.Cookies;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.ResponseSpecification;
+import org.apache.http.cookie.CookieOrigin;
+import org.apache.http.cookie.CookieSpec;
+import org.apache.http.cookie.MalformedCookieException;
+import org.apache.http.impl.cookie.RFC6265StrictSpec;
+import org.apache.http.message.BasicHeader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Asynchronous alternative to the RestAssured stack, built on the JDK {@link HttpClient}, used by
+ * the API clients when api.backend=jdk. Requests read and update the session's {@link
+ * io.restassured.filter.cookie.CookieFilter} store with the same cookie spec the filter uses, so a
+ * session logged in through RestAssured keeps working here and vice versa. Like {@link SpecFactory},
+ * redirects are not followed. Results are RestAssured {@link Response}s, so assertions and response
+ * specs work unchanged.
+ */
+public class JdkHttpBackend {
+
+    private static final String FORM = "application/x-www-form-urlencoded; charset=UTF-8";
+
+    private static final CookieSpec cookieSpec = new RFC6265StrictSpec();
+
+    private static final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    public static CompletableFuture<Response> get(SessionManager session, String path) {
+        return get(session, path, Map.of());
+    }
+
+    public static CompletableFuture<Response> get(SessionManager session, String path, Map<String, ?> queryParams) {
+        String query = encode(queryParams);
+        String target = query.isEmpty() ? path : path + (path.contains("?") ? "&" : "?") + query;
+        return send(session, target, Map.of(), HttpRequest.BodyPublishers.noBody(), "GET");
+    }
+
+    /**
+     * GET whose 200 body is handed to {@code reader} as it arrives instead of being buffered; the
+     * connection is closed once the reader returns, dropping whatever it didn't read.
+     */
+    public static <T> CompletableFuture<T> getStream(SessionManager session, String path, Function<InputStream, T> reader) {
+        URI uri = URI.create(session.getBaseUri() + path);
+        CookieOrigin origin = cookieOrigin(uri);
+        return client.sendAsync(request(session, uri, origin, Map.of()).GET().build(), HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(response -> {
+                    storeCookies(response.headers(), session, origin);
+                    try (InputStream body = response.body()) {
+                        if (response.statusCode() != 200) {
+                            throw new RuntimeException("❌ Expected 200 from " + path + " but got " + response.statusCode());
+                        }
+                        return reader.apply(body);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Form POST; an empty form sends no body, like a RestAssured post without params.
+     */
+    public static CompletableFuture<Response> post(SessionManager session, String path, Map<String, ?> formParams) {
+        return post(session, path, formParams, Map.of());
+    }
+
+    public static CompletableFuture<Response> post(SessionManager session, String path, Map<String, ?> formParams, Map<String, String> headers) {
+        if (formParams.isEmpty()) {
+            return send(session, path, headers, HttpRequest.BodyPublishers.noBody(), "POST");
+        }
+        Map<String, String> withContentType = new HashMap<>(headers);
+        withContentType.put("Content-Type", FORM);
+        return send(session, path, withContentType, HttpRequest.BodyPublishers.ofString(encode(formParams)), "POST");
+    }
+
+    /**
+     * Applies a response spec (e.g. {@link SpecFactory#htmlResponseWithStatus(int)}) and passes the response on.
+     */
+    public static Response expect(Response response, ResponseSpecification spec) {
+        response.then().spec(spec);
+        return response;
+    }
+
+    /**
+     * Waits for a result, rethrowing the original failure (e.g. an AssertionError from a response
+     * spec) instead of the CompletionException wrapping it.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static CompletableFuture<Response> send(SessionManager session, String path, Map<String, String> headers,
+                                                    HttpRequest.BodyPublisher body, String method) {
+        URI uri = URI.create(session.getBaseUri() + path);
+        CookieOrigin origin = cookieOrigin(uri);
+        return client.sendAsync(request(session, uri, origin, headers).method(method, body).build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> toRestAssured(response, session, origin));
+    }
+
+    private static HttpRequest.Builder request(SessionManager session, URI uri, CookieOrigin origin, Map<String, String> headers) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri).header("Accept", "*/*");
+        headers.forEach(request::header);
+        String cookies = cookieHeader(session, origin);
+        if (!cookies.isEmpty()) {
+            request.header("Cookie", cookies);
+        }
+        return request;
+    }
+
+    private static String cookieHeader(SessionManager session, CookieOrigin origin) {
+        StringJoiner header = new StringJoiner("; ");
+        String browserSessionId = session.getBrowserSessionId();
+        if (browserSessionId != null) {
+            header.add("OCSESSID=" + browserSessionId);
+        }
+        Date now = new Date();
+        for (org.apache.http.cookie.Cookie cookie : session.getCookieFilter().getCookieStore().getCookies()) {
+            // An explicit browser OCSESSID wins over the stored one, as with CookieFilter
+            boolean overridden = browserSessionId != null && cookie.getName().equals("OCSESSID");
+            if (!overridden && !cookie.isExpired(now) && cookieSpec.match(cookie, origin)) {
+                header.add(cookie.getName() + "=" + cookie.getValue());
+            }
+        }
+        return header.toString();
+    }
+
+    private static Response toRestAssured(HttpResponse<byte[]> response, SessionManager session, CookieOrigin origin) {
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> values.forEach(value -> headers.add(new Header(name, value))));
+
+        return new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine("HTTP/1.1 " + response.statusCode())
+                .setHeaders(new Headers(headers))
+                .setCookies(new Cookies(storeCookies(response.headers(), session, origin)))
+                .setContentType(response.headers().firstValue("Content-Type").orElse(""))
+                .setBody(response.body())
+                .build();
+    }
+
+    /**
+     * Adds the response's cookies to the session's store and returns them.
+     */
+    private static List<Cookie> storeCookies(HttpHeaders headers, SessionManager session, CookieOrigin origin) {
+        List<Cookie> cookies = new ArrayList<>();
+        for (String setCookie : headers.allValues("Set-Cookie")) {
+            try {
+                for (org.apache.http.cookie.Cookie cookie : cookieSpec.parse(new BasicHeader("Set-Cookie", setCookie), origin)) {
+                    session.getCookieFilter().getCookieStore().addCookie(cookie);
+                    cookies.add(new Cookie.Builder(cookie.getName(), cookie.getValue())
+                            .setPath(cookie.getPath())
+                            .setDomain(cookie.getDomain())
+                            .build());
+                }
+            } catch (MalformedCookieException e) {
+                // Rejected by the cookie spec: not stored
+            }
+        }
+        return cookies;
+    }
+
+    private static CookieOrigin cookieOrigin(URI uri) {
+        boolean secure = "https".equals(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : secure ? 443 : 80;
+        String path = uri.getPath() == null || uri.getPath().isEmpty() ? "/" : uri.getPath();
+        return new CookieOrigin(uri.getHost(), port, path, secure);
+    }
+
+    private static String encode(Map<String, ?> params) {
+        return params.entrySet().stream()
+                .map(param -> URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(String.valueOf(param.getValue()), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+}
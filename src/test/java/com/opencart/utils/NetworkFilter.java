@@ -0,0 +1,124 @@
+package com.opencart.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * DevTools request filtering for Chrome sessions. Requests of the selected resource classes are
+ * answered locally with a stub, so DOM-only tests don't wait for images, fonts or trackers.
+ */
+public class NetworkFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkFilter.class);
+
+    // 1x1 transparent GIF keeps <img> layout intact without downloading the real asset
+    private static final byte[] BLANK_GIF = Base64.getDecoder().decode("R0lGODlhAQABAIAAAAAAAP///yH5BAEAAAAALAAAAAABAAEAAAIBRAA7");
+
+    public enum ResourceClass {
+        SLIDESHOW("/image/cache/catalog/demo/banners/"),
+        IMAGES("\\.(png|jpe?g|gif|webp|svg|ico)(\\?|$)"),
+        FONTS("\\.(woff2?|ttf|otf|eot)(\\?|$)|fonts\\.(googleapis|gstatic)\\.com"),
+        ANALYTICS("google-analytics\\.com|googletagmanager\\.com|doubleclick\\.net|connect\\.facebook\\.net|hotjar\\.com");
+
+        private final Pattern urlPattern;
+
+        ResourceClass(String urlRegex) {
+            this.urlPattern = Pattern.compile(urlRegex, Pattern.CASE_INSENSITIVE);
+        }
+
+        boolean matches(String url) {
+            return urlPattern.matcher(url).find();
+        }
+    }
+
+    /**
+     * Parses "off", "lean" or a comma-separated list of resource classes.
+     */
+    public static Set<ResourceClass> parseProfile(String profile) {
+        if (profile == null || profile.isBlank() || profile.equalsIgnoreCase("off") || profile.equalsIgnoreCase("none")) {
+            return EnumSet.noneOf(ResourceClass.class);
+        }
+        if (profile.equalsIgnoreCase("lean")) {
+            return EnumSet.allOf(ResourceClass.class);
+        }
+
+        Set<ResourceClass> classes = EnumSet.noneOf(ResourceClass.class);
+        for (String name : profile.split(",")) {
+            try {
+                classes.add(ResourceClass.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown network profile entry: '" + name.trim() + "'", e);
+            }
+        }
+        return classes;
+    }
+
+    public static String describe(Set<ResourceClass> classes) {
+        if (classes.isEmpty()) {
+            return "off";
+        }
+        return classes.stream().map(c -> c.name().toLowerCase(Locale.ROOT)).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Returns a view of the session that exposes DevTools; Grid sessions need augmenting.
+     */
+    public static WebDriver withDevTools(WebDriver driver) {
+        WebDriver devToolsDriver = driver instanceof HasDevTools ? driver : new Augmenter().augment(driver);
+        if (!(devToolsDriver instanceof HasDevTools)) {
+            throw new IllegalStateException("Session does not expose DevTools: " + driver);
+        }
+        return devToolsDriver;
+    }
+
+    /**
+     * Starts stubbing the given resource classes on the session. Close the returned interceptor
+     * to go back to normal network behaviour.
+     */
+    public static NetworkInterceptor install(WebDriver devToolsDriver, Set<ResourceClass> classes) {
+        Filter stubbing = next -> request -> {
+            String url = request.getUri();
+            for (ResourceClass resourceClass : classes) {
+                if (resourceClass.matches(url)) {
+                    logger.debug("🚫 Stubbed {} request: {}", resourceClass, url);
+                    return stubFor(resourceClass);
+                }
+            }
+            return next.execute(request);
+        };
+
+        NetworkInterceptor interceptor = new NetworkInterceptor(devToolsDriver, stubbing);
+        logger.info("🌐 Network profile applied: {}", describe(classes));
+        return interceptor;
+    }
+
+    private static HttpResponse stubFor(ResourceClass resourceClass) {
+        return switch (resourceClass) {
+            case SLIDESHOW, IMAGES -> new HttpResponse()
+                    .setStatus(200)
+                    .addHeader("Content-Type", "image/gif")
+                    .setContent(Contents.bytes(BLANK_GIF));
+            case FONTS -> new HttpResponse()
+                    .setStatus(200)
+                    .addHeader("Content-Type", "font/woff2")
+                    .setContent(Contents.bytes(new byte[0]));
+            case ANALYTICS -> new HttpResponse()
+                    .setStatus(204)
+                    .setContent(Contents.bytes(new byte[0]));
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package com.opencart.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects Navigation Timing samples per test class and network profile into
+ * target/suite-reports/page-load-timings.txt. Pages are only sampled while a filtering profile is
+ * active or network.profile is passed with -D; the latter overrides @NetworkProfile, so running the
+ * same tests once with -Dnetwork.profile=off gives the unfiltered baseline for the same rows.
+ */
+public class PageLoadTimings {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageLoadTimings.class);
+
+    private static final String NAVIGATION_TIMING_SCRIPT =
+            "var nav = performance.getEntriesByType('navigation')[0];" +
+            "if (!nav || !nav.loadEventEnd) { return null; }" +
+            "var bytes = nav.transferSize || 0;" +
+            "performance.getEntriesByType('resource').forEach(function (r) { bytes += r.transferSize || 0; });" +
+            "return [performance.timeOrigin, nav.loadEventEnd, nav.domContentLoadedEventEnd, bytes];";
+
+    private record Key(String testClass, String profile) {
+    }
+
+    private static final Map<Key, List<long[]>> samples = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> currentProfile = ThreadLocal.withInitial(() -> "off");
+    private static final ThreadLocal<String> currentTest = ThreadLocal.withInitial(() -> "other");
+    private static final ThreadLocal<Double> lastTimeOrigin = new ThreadLocal<>();
+
+    static {
+        SuiteReport.atEnd(PageLoadTimings::writeReport);
+    }
+
+    public static void setProfile(String profile) {
+        currentProfile.set(profile);
+    }
+
+    public static void setTest(String testClass) {
+        currentTest.set(testClass);
+    }
+
+    /**
+     * Whether page loads on this thread are sampled: only under a filtering profile, or for every
+     * profile when one was requested explicitly with -Dnetwork.profile (e.g. the "off" baseline).
+     */
+    public static boolean isRecording() {
+        return !currentProfile.get().equals("off") || System.getProperty("network.profile") != null;
+    }
+
+    /**
+     * Samples the current document once it has fully loaded; repeated calls for the same
+     * document are ignored.
+     */
+    public static void record(WebDriver driver) {
+        if (!isRecording()) {
+            return;
+        }
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(NAVIGATION_TIMING_SCRIPT);
+            if (!(result instanceof List<?> values) || values.size() < 4) {
+                return;
+            }
+            double timeOrigin = ((Number) values.get(0)).doubleValue();
+            if (Double.valueOf(timeOrigin).equals(lastTimeOrigin.get())) {
+                return;
+            }
+            lastTimeOrigin.set(timeOrigin);
+
+            long[] sample = {
+                    ((Number) values.get(1)).longValue(),
+                    ((Number) values.get(2)).longValue(),
+                    ((Number) values.get(3)).longValue()
+            };
+            samples
+                    .computeIfAbsent(new Key(currentTest.get(), currentProfile.get()), key -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(sample);
+        } catch (Exception e) {
+            logger.debug("Navigation timing not available: {}", e.getMessage());
+        }
+    }
+
+    private static void writeReport() {
+        if (samples.isEmpty()) {
+            return;
+        }
+        StringBuilder report = new StringBuilder(String.format("%-24s %-30s %8s %10s %10s %10s %12s%n",
+                "Test class", "Network profile", "Pages", "Load avg", "Load p50", "DCL avg", "KB avg"));
+        Map<String, List<long[]>> byProfile = new TreeMap<>();
+        Map<String, TreeSet<String>> classesByProfile = new TreeMap<>();
+
+        Map<Key, List<long[]>> sorted = new TreeMap<>((a, b) -> a.testClass().equals(b.testClass())
+                ? a.profile().compareTo(b.profile()) : a.testClass().compareTo(b.testClass()));
+        sorted.putAll(samples);
+        sorted.forEach((key, list) -> {
+            List<long[]> copy;
+            synchronized (list) {
+                copy = new ArrayList<>(list);
+            }
+            report.append(row(key.testClass(), key.profile(), copy));
+            byProfile.computeIfAbsent(key.profile(), profile -> new ArrayList<>()).addAll(copy);
+            classesByProfile.computeIfAbsent(key.profile(), profile -> new TreeSet<>()).add(key.testClass());
+        });
+        report.append(String.format("%nEach row is one test class under the profile it ran with; the rows of different%n"
+                + "profiles are different pages unless the same class appears under both. For a before/after,%n"
+                + "run the same tests again with -Dnetwork.profile=off (overrides @NetworkProfile) and compare rows.%n"));
+
+        byProfile.forEach((profile, list) -> SuiteReport.put("Page load avg [" + profile + "]", String.format("%.0f ms over %d pages of %s",
+                list.stream().mapToLong(s -> s[0]).average().orElse(0), list.size(), String.join(", ", classesByProfile.get(profile)))));
+        SuiteReport.writeSection("page-load-timings", report.toString());
+    }
+
+    private static String row(String testClass, String profile, List<long[]> list) {
+        List<Long> loads = list.stream().map(s -> s[0]).sorted().toList();
+        double loadAvg = loads.stream().mapToLong(Long::longValue).average().orElse(0);
+        double dclAvg = list.stream().mapToLong(s -> s[1]).average().orElse(0);
+        double kbAvg = list.stream().mapToLong(s -> s[2]).average().orElse(0) / 1024;
+        return String.format("%-24s %-30s %8d %8.0fms %8dms %8.0fms %12.1f%n",
+                testClass, profile, list.size(), loadAvg, loads.get(loads.size() / 2), dclAvg, kbAvg);
+    }
+}
@@ -1,30 +1,119 @@
 package com.opencart.utils;
 
 import com.opencart.api.clients.ApiRoutes;
-import io.restassured.RestAssured;
 import io.restassured.filter.cookie.CookieFilter;
 import io.restassured.response.Response;
-import org.hamcrest.MatcherAssert;
-import org.hamcrest.Matchers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Instant;
+
+/**
+ * Storefront session of one scenario: its own cookie jar, host and leased user. A new instance is
+ * created for every scenario (see {@code com.opencart.api.context.ScenarioObjectFactory}) and passed
+ * to the API clients, so scenarios running in parallel never share cookies.
+ */
 public class SessionManager {
     private static final Logger logger = LoggerFactory.getLogger(SessionManager.class);
-    private static String sessionId;
-    private static CookieFilter cookieFilter = new CookieFilter();
 
-    private static final String EMAIL = UserPoolManager.acquireUser();
     private static final String PASSWORD = ConfigReader.getProperty("testUserPassword");
 
-    public static void initLoggedSession() {
+    private final String baseUri;
+    private CookieFilter cookieFilter = new CookieFilter();
+    private String sessionId;
+    private String email;
+    private Instant loggedInAt;
+    // OCSESSID sent with every request when driving a session that belongs to the browser
+    private String browserSessionId;
+
+    public SessionManager() {
+        this(ApiRoutes.BASE_URI);
+    }
+
+    private SessionManager(String baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * Session on the UI host that shares the browser's OCSESSID, so HTTP calls change the state
+     * the browser sees (cart, wishlist) without any clicks.
+     */
+    public static SessionManager forBrowser(String browserSessionId) {
+        String baseUrl = ConfigReader.getProperty("baseUrl");
+        SessionManager session = new SessionManager(baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl);
+        session.browserSessionId = browserSessionId;
+        return session;
+    }
+
+    /**
+     * Leases a user and takes a logged-in session with an empty cart for it from {@link AuthSessionPool}.
+     */
+    public void initLoggedSession() {
+        // Leased per session and released on logout, so scenarios don't pin a user for the whole run
+        String user = UserPoolManager.acquireUser();
+        copyFrom(AuthSessionPool.take(user));
+    }
+
+    /**
+     * Ends the scenario's use of a logged-in session without logging out: the session and the user's
+     * lease go to {@link AuthSessionPool}, which resets the cart and then releases the user.
+     * Logs out instead when the pool is disabled.
+     */
+    public void release() {
+        if (!AuthSessionPool.isEnabled()) {
+            logout();
+            return;
+        }
+        SessionManager kept = new SessionManager();
+        kept.copyFrom(this);
+        logger.info("♻️ Keeping session of {} for reuse", email);
+
+        resetSession();
+        // Hands the lease over: the cart is reset once this scenario is done with it, and before anyone else gets the user
+        AuthSessionPool.recycle(kept);
+    }
+
+    /**
+     * Cheap validity probe: account/account answers 200 for a live session and redirects to the
+     * login page once it has expired.
+     */
+    boolean isAlive() {
+        try {
+            int status = SpecFactory.getRequestSpec(this).head(ApiRoutes.ACCOUNT).statusCode();
+            if (status == 405) {
+                status = SpecFactory.getRequestSpec(this).get(ApiRoutes.ACCOUNT).statusCode();
+            }
+            return status == 200;
+        } catch (Exception e) {
+            logger.warn("⚠️ Session probe for {} failed: {}", email, e.getMessage());
+            return false;
+        }
+    }
+
+    private void copyFrom(SessionManager other) {
+        cookieFilter = other.cookieFilter;
+        sessionId = other.sessionId;
+        email = other.email;
+        loggedInAt = other.loggedInAt;
+    }
+
+    /**
+     * Logs this fresh session in; used by {@link AuthSessionPool} to prepare sessions.
+     */
+    void loginAs(String email) {
+        this.email = email;
         sessionId = createSession();
+        loggedInAt = Instant.now();
+    }
+
+    Instant getLoggedInAt() {
+        return loggedInAt;
     }
 
-    private static String createSession() {
+    private String createSession() {
         Response response = SpecFactory
-                .getFormRequestSpec(cookieFilter)
-                .formParam("email", SessionManager.EMAIL)
+                .getFormRequestSpec(this)
+                .formParam("email", email)
                 .formParam("password", SessionManager.PASSWORD)
                 .post(ApiRoutes.LOGIN);
 
@@ -38,21 +127,21 @@ public class SessionManager {
             throw new RuntimeException("❌ OCSESSID not found after login.");
         }
 
-        logger.info("✅ Logged in, OCSESSID: {}", sessionId);
+        logger.info("✅ Logged in as {}, OCSESSID: {}", email, sessionId);
         return sessionId;
     }
 
-    public static Response startGuestSession() {
+    public Response startGuestSession() {
         // Step 1: Trigger home to receive OCSESSID
         SpecFactory
-                .getRequestSpec(cookieFilter)
+                .getRequestSpec(this)
                 .get(ApiRoutes.HOME)
                 .then()
                 .spec(SpecFactory.htmlResponseWithStatus(200));
 
         // Step 2: Clear cart
         return SpecFactory
-                .getRequestSpec(cookieFilter)
+                .getRequestSpec(this)
                 .post(ApiRoutes.REMOVE_CART)
                 .then()
                 .spec(SpecFactory.jsonResponseWithStatus(200))
@@ -60,33 +149,47 @@ public class SessionManager {
                 .response();
     }
 
-    public static void resetSession() {
+    public void resetSession() {
         sessionId = null;
+        email = null;
+        loggedInAt = null;
         cookieFilter = new CookieFilter();
-        RestAssured.replaceFiltersWith(cookieFilter);
         logger.info("🧹 Session reset: new CookieFilter created");
     }
 
-    public static CookieFilter getCookieFilter() {
+    public String getBaseUri() {
+        return baseUri;
+    }
+
+    public String getBrowserSessionId() {
+        return browserSessionId;
+    }
+
+    public CookieFilter getCookieFilter() {
         return cookieFilter;
     }
 
-    public static boolean isAuthenticated() {
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isAuthenticated() {
         return sessionId != null && !sessionId.trim().isEmpty();
     }
 
-    public static void logout() {
-        logger.info("🔒 Logging out...");
-        SpecFactory.getRequestSpec(cookieFilter)
+    public void logout() {
+        logger.info("🔒 Logging out {}...", email);
+        SpecFactory.getRequestSpec(this)
                 .get(ApiRoutes.LOGOUT)
                 .then()
                 .statusCode(org.hamcrest.Matchers.anyOf(
                         org.hamcrest.Matchers.is(302),
                         org.hamcrest.Matchers.is(200)
                 ));
-        sessionId = null;
 
+        String user = email;
         resetSession();
+        // Hands the lease over: the next session is prepared before anyone else gets the user
+        AuthSessionPool.replenish(user);
     }
 }
-
@@ -0,0 +1,190 @@
+package com.opencart.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Waits until the page is quiet instead of sleeping a fixed time: document complete, no jQuery
+ * or XHR/fetch requests in flight and no DOM mutations for a short window.
+ */
+public class SettleDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(SettleDetector.class);
+
+    private static final long FIRST_BACKOFF_MS = 50;
+    private static final long MAX_BACKOFF_MS = 400;
+
+    /**
+     * How long the DOM must stay unchanged and how long to wait at most. {@link #NONE} skips settling.
+     */
+    public record Options(long quietMs, long timeoutMs) {
+
+        public static final Options DEFAULT = new Options(
+                ConfigReader.getIntProperty("settle.quietMs", 150),
+                ConfigReader.getIntProperty("settle.timeoutMs", 5000));
+
+        public static final Options NONE = new Options(0, 0);
+
+        public Options withTimeout(long timeoutMs) {
+            return new Options(quietMs, timeoutMs);
+        }
+    }
+
+    public record Sample(String action, long millis, boolean settled) {
+    }
+
+    // The monitor is installed once per document and keeps tracking between calls, so a page that
+    // has been quiet for a while settles immediately.
+    private static final String SETTLE_SCRIPT =
+            "var quietMs = arguments[0], timeoutMs = arguments[1], done = arguments[arguments.length - 1];" +
+            "var m = window.__ocSettle;" +
+            "if (!m) {" +
+            "  m = window.__ocSettle = { pending: 0, lastChange: Date.now() };" +
+            "  var send = XMLHttpRequest.prototype.send;" +
+            "  XMLHttpRequest.prototype.send = function () {" +
+            "    m.pending++;" +
+            "    this.addEventListener('loadend', function () { m.pending--; m.lastChange = Date.now(); });" +
+            "    return send.apply(this, arguments);" +
+            "  };" +
+            "  if (window.fetch) {" +
+            "    var origFetch = window.fetch;" +
+            "    window.fetch = function () {" +
+            "      m.pending++;" +
+            "      var settle = function () { m.pending--; m.lastChange = Date.now(); };" +
+            "      return origFetch.apply(this, arguments).then(function (r) { settle(); return r; }," +
+            "          function (e) { settle(); throw e; });" +
+            "    };" +
+            "  }" +
+            "  new MutationObserver(function () { m.lastChange = Date.now(); })" +
+            "      .observe(document.documentElement, { childList: true, subtree: true, characterData: true });" +
+            "}" +
+            "var start = Date.now();" +
+            "(function check() {" +
+            "  var now = Date.now();" +
+            "  var busy = document.readyState !== 'complete' || m.pending > 0 || (window.jQuery && jQuery.active > 0);" +
+            "  if (busy) { m.lastChange = now; }" +
+            "  if (!busy && now - m.lastChange >= quietMs) { done(true); return; }" +
+            "  if (now - start >= timeoutMs) { done(false); return; }" +
+            "  setTimeout(check, 25);" +
+            "})();";
+
+    private static final ThreadLocal<List<Sample>> samples = ThreadLocal.withInitial(ArrayList::new);
+    private static final List<Long> suiteMillis = Collections.synchronizedList(new ArrayList<>());
+    private static final AtomicLong suiteTimeouts = new AtomicLong();
+
+    static {
+        SuiteReport.atEnd(SettleDetector::writeReport);
+    }
+
+    /**
+     * Blocks until the page settles or the timeout passes. Returns false on timeout or when the
+     * check itself fails; callers carry on as they did after the old fixed sleep. A lost session or
+     * window is rethrown. Only a navigation replacing the document is retried, after a short backoff.
+     */
+    public static boolean awaitSettled(WebDriver driver, Options options, String action) {
+        if (options.timeoutMs() <= 0) {
+            return true;
+        }
+
+        long start = System.currentTimeMillis();
+        long deadline = start + options.timeoutMs();
+        boolean settled = false;
+        long backoff = FIRST_BACKOFF_MS;
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                break;
+            }
+            try {
+                Object result = ((JavascriptExecutor) driver).executeAsyncScript(SETTLE_SCRIPT, options.quietMs(), remaining);
+                settled = Boolean.TRUE.equals(result);
+                break;
+            } catch (NoSuchSessionException | NoSuchWindowException | UnreachableBrowserException e) {
+                throw e;
+            } catch (ScriptTimeoutException e) {
+                logger.debug("Settle check timed out for {}: {}", action, e.getMessage());
+                break;
+            } catch (WebDriverException e) {
+                if (!isNavigation(e)) {
+                    logger.warn("⚠️ Settle check failed for {}, not waiting further: {}", action, e.getMessage());
+                    break;
+                }
+                // The document was replaced mid-wait; give the new one a moment before checking it
+                logger.debug("Settle check interrupted by navigation for {}: {}", action, e.getMessage());
+                pause(Math.min(backoff, deadline - System.currentTimeMillis()));
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+            }
+        }
+
+        long millis = System.currentTimeMillis() - start;
+        samples.get().add(new Sample(action, millis, settled));
+        suiteMillis.add(millis);
+        if (settled) {
+            logger.debug("⏳ Page settled after {} ms: {}", millis, action);
+        } else {
+            suiteTimeouts.incrementAndGet();
+            logger.warn("⚠️ Page did not settle within {} ms: {}", options.timeoutMs(), action);
+        }
+        return settled;
+    }
+
+    private static boolean isNavigation(WebDriverException e) {
+        String message = String.valueOf(e.getMessage()).toLowerCase();
+        // Chrome: "document unloaded while waiting for result" / "inspected target navigated or closed";
+        // Firefox: "document was unloaded"
+        return message.contains("unloaded") || message.contains("navigated");
+    }
+
+    /**
+     * Sleeps up to {@code millis}; an interrupt ends the pause early and is kept for the caller.
+     */
+    public static void pause(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns and clears the samples recorded on the current thread.
+     */
+    public static List<Sample> drainSamples() {
+        List<Sample> drained = List.copyOf(samples.get());
+        samples.get().clear();
+        return drained;
+    }
+
+    private static void writeReport() {
+        List<Long> sorted;
+        synchronized (suiteMillis) {
+            sorted = new ArrayList<>(suiteMillis);
+        }
+        if (sorted.isEmpty()) {
+            return;
+        }
+        Collections.sort(sorted);
+        double avg = sorted.stream().mapToLong(Long::longValue).average().orElse(0);
+        long p95 = sorted.get(Math.min(sorted.size() - 1, (int) Math.ceil(sorted.size() * 0.95) - 1));
+        SuiteReport.put("Settle waits", String.format("%d waits, avg %.0f ms, p95 %d ms, %d timed out",
+                sorted.size(), avg, p95, suiteTimeouts.get()));
+    }
+}
@@ -3,43 +3,95 @@ package com.opencart.utils;
 
 import com.opencart.api.clients.ApiRoutes;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RedirectConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.filter.cookie.CookieFilter;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Request and response specs for the storefront. The shared parts (pooled transport, no redirects)
+ * are built once; each call only adds the host and the session's cookies.
+ */
 public class SpecFactory {
 
+    private static final RestAssuredConfig CONFIG = RestAssuredConfig.config()
+            .httpClient(HttpClientConfig.httpClientConfig().httpClientFactory(HttpTransport::newClient))
+            .redirect(RedirectConfig.redirectConfig().followRedirects(false));
+
+    private static final RequestSpecification BASE_SPEC = new RequestSpecBuilder()
+            .setConfig(CONFIG)
+            .build();
+
+    private static final RequestSpecification FORM_SPEC = new RequestSpecBuilder()
+            .addRequestSpecification(BASE_SPEC)
+            .setContentType("application/x-www-form-urlencoded")
+            .build();
+
+    private static final Map<Integer, ResponseSpecification> htmlResponses = new ConcurrentHashMap<>();
+    private static final Map<Integer, ResponseSpecification> jsonResponses = new ConcurrentHashMap<>();
+
     public static RequestSpecification getRequestSpec(CookieFilter cookieFilter) {
+        return getRequestSpec(ApiRoutes.BASE_URI, cookieFilter);
+    }
+
+    /**
+     * Plain spec against another storefront host, e.g. the UI baseUrl.
+     */
+    public static RequestSpecification getRequestSpec(String baseUri, CookieFilter cookieFilter) {
         return RestAssured
-                .given()
-                .baseUri(ApiRoutes.BASE_URI)
-                .filter(cookieFilter)
-                .redirects().follow(false);
+                .given(BASE_SPEC)
+                .baseUri(baseUri)
+                .filter(cookieFilter);
+    }
+
+    /**
+     * Spec bound to one scenario's session: its host and cookie jar.
+     */
+    public static RequestSpecification getRequestSpec(SessionManager session) {
+        return withBrowserSession(getRequestSpec(session.getBaseUri(), session.getCookieFilter()), session);
     }
 
     public static RequestSpecification getFormRequestSpec(CookieFilter cookieFilter) {
+        return getFormRequestSpec(ApiRoutes.BASE_URI, cookieFilter);
+    }
+
+    /**
+     * Form spec against another storefront host, e.g. the UI baseUrl.
+     */
+    public static RequestSpecification getFormRequestSpec(String baseUri, CookieFilter cookieFilter) {
         return RestAssured
-                .given()
-                .baseUri(ApiRoutes.BASE_URI)
-                .filter(cookieFilter)
-                .contentType("application/x-www-form-urlencoded")
-                .redirects().follow(false);
+                .given(FORM_SPEC)
+                .baseUri(baseUri)
+                .filter(cookieFilter);
+    }
+
+    public static RequestSpecification getFormRequestSpec(SessionManager session) {
+        return withBrowserSession(getFormRequestSpec(session.getBaseUri(), session.getCookieFilter()), session);
+    }
+
+    private static RequestSpecification withBrowserSession(RequestSpecification spec, SessionManager session) {
+        return session.getBrowserSessionId() == null ? spec : spec.cookie("OCSESSID", session.getBrowserSessionId());
     }
 
     public static ResponseSpecification htmlResponseWithStatus(int statusCode) {
-        return new ResponseSpecBuilder()
-                .expectStatusCode(statusCode)
+        return htmlResponses.computeIfAbsent(statusCode, status -> new ResponseSpecBuilder()
+                .expectStatusCode(status)
                 .expectContentType(ContentType.HTML)
-                .build();
+                .build());
     }
 
     public static ResponseSpecification jsonResponseWithStatus(int statusCode) {
-        return new ResponseSpecBuilder()
-                .expectStatusCode(statusCode)
+        return jsonResponses.computeIfAbsent(statusCode, status -> new ResponseSpecBuilder()
+                .expectStatusCode(status)
                 .expectContentType(ContentType.JSON)
-                .build();
+                .build());
     }
 }
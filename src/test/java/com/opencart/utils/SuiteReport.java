@@ -0,0 +1,87 @@
+package com.opencart.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Suite-wide metrics that don't belong to a single test. Key figures go to the Allure
+ * "Environment" widget (environment.properties), longer reports to target/suite-reports.
+ */
+public class SuiteReport {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuiteReport.class);
+
+    private static final Path RESULTS_DIR = Path.of(System.getProperty("allure.results.directory", "target/allure-results"));
+    private static final Path REPORTS_DIR = Path.of("target", "suite-reports");
+
+    private static final Map<String, String> environment = new ConcurrentSkipListMap<>();
+    private static final List<Runnable> finishers = new CopyOnWriteArrayList<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SuiteReport::finish, "suite-report-finish"));
+    }
+
+    /**
+     * Records a single figure shown in the Allure environment widget.
+     */
+    public static void put(String key, String value) {
+        environment.put(key, value);
+        logger.info("📊 {}: {}", key, value);
+        writeEnvironment();
+    }
+
+    /**
+     * Writes a multi-line report to target/suite-reports/{name}.txt.
+     */
+    public static void writeSection(String name, String content) {
+        try {
+            Files.createDirectories(REPORTS_DIR);
+            Path file = REPORTS_DIR.resolve(name + ".txt");
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+            logger.info("📊 Suite report written: {}", file);
+        } catch (IOException e) {
+            logger.warn("⚠️ Could not write suite report '{}': {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Registers a report that can only be produced once the whole run is over.
+     */
+    public static void atEnd(Runnable finisher) {
+        finishers.add(finisher);
+    }
+
+    private static synchronized void writeEnvironment() {
+        Properties properties = new Properties();
+        properties.putAll(environment);
+        try {
+            Files.createDirectories(RESULTS_DIR);
+            try (OutputStream out = Files.newOutputStream(RESULTS_DIR.resolve("environment.properties"))) {
+                properties.store(out, "Suite metrics");
+            }
+        } catch (IOException e) {
+            logger.warn("⚠️ Could not write environment.properties: {}", e.getMessage());
+        }
+    }
+
+    private static void finish() {
+        for (Runnable finisher : finishers) {
+            try {
+                finisher.run();
+            } catch (Exception e) {
+                logger.warn("⚠️ Suite report step failed: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -1,54 +1,198 @@
 package com.opencart.utils;
 
-import com.opencart.ui.base.BaseTest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
+/**
+ * Hands out test accounts as leases owned by the acquiring thread. Acquiring again on the same
+ * thread returns the same user; one release frees it. Acquire gives up after
+ * userPool.acquireTimeoutSeconds, and leases of threads that have died are reclaimed while
+ * others wait. Leaks and wait times are reported at the end of the run.
+ */
 public class UserPoolManager {
     private static final Logger logger = LoggerFactory.getLogger(UserPoolManager.class);
 
-    private static final List<String> users = List.of(
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofSeconds(ConfigReader.getIntProperty("userPool.acquireTimeoutSeconds", 120));
+    private static final long RECLAIM_INTERVAL_MS = 1000;
+
+    // Wait histogram bucket upper bounds in ms; the last bucket is everything above
+    private static final long[] WAIT_BUCKETS_MS = {10, 100, 1000, 5000, 30000};
+
+    private static final Set<String> users = new CopyOnWriteArraySet<>(List.of(
             ConfigReader.getProperty("testUserEmail1"),
             ConfigReader.getProperty("testUserEmail2")
 //            ConfigReader.getProperty("testUserEmail3"),
 //            ConfigReader.getProperty("testUserEmail4"),
 //            ConfigReader.getProperty("testUserEmail5")
-    );
+    ));
 
     private static final BlockingQueue<String> availableUsers = new LinkedBlockingQueue<>(users);
-    private static final ThreadLocal<String> threadUser = new ThreadLocal<>();
+    private static final Map<Thread, Lease> leases = new ConcurrentHashMap<>();
+    // Times each user was leased, so background work can tell whether anyone used the account since
+    private static final Map<String, AtomicLong> leaseCounts = new ConcurrentHashMap<>();
+
+    private static final List<String> leaks = new CopyOnWriteArrayList<>();
+    private static final AtomicLongArray waitHistogram = new AtomicLongArray(WAIT_BUCKETS_MS.length + 1);
+    private static final AtomicLong acquireTimeouts = new AtomicLong();
+    private static final AtomicLong maxWaitMs = new AtomicLong();
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    static {
+        SuiteReport.atEnd(UserPoolManager::writeReport);
+    }
+
+    private record Lease(String user, Thread owner, String acquiredBy, Instant acquiredAt) {
+
+        String describe() {
+            return String.format("%s held by [%s] %s for %d s", user, owner.getName(), acquiredBy,
+                    Duration.between(acquiredAt, Instant.now()).toSeconds());
+        }
+    }
+
+    /**
+     * Grows the pool to at least {@code size} accounts with provisioned users (see {@link UserProvisioner})
+     * when userPool.provision is enabled. Call before tests start acquiring.
+     */
+    public static synchronized void ensureCapacity(int size) {
+        int missing = size - users.size();
+        if (missing <= 0) {
+            return;
+        }
+        if (!ConfigReader.getBooleanProperty("userPool.provision", false)) {
+            logger.warn("⚠️ {} concurrent users needed but pool has {}; enable userPool.provision to add accounts",
+                    size, users.size());
+            return;
+        }
+
+        List<String> added = UserProvisioner.provide(missing, users);
+        users.addAll(added);
+        availableUsers.addAll(added);
+        logger.info("👥 User pool grown to {} account(s) ({} provisioned)", users.size(), added.size());
+    }
+
+    public static int size() {
+        return users.size();
+    }
 
     /**
-     * Acquire a user from the pool (waits if empty)
+     * Every account in the pool, leased or not.
+     */
+    public static Set<String> allUsers() {
+        return Set.copyOf(users);
+    }
+
+    /**
+     * Leases a user to the current thread, waiting up to userPool.acquireTimeoutSeconds.
+     * Returns the thread's existing lease if it already holds one.
      */
     public static String acquireUser() {
+        Thread current = Thread.currentThread();
+        Lease held = leases.get(current);
+        if (held != null) {
+            logger.debug("[THREAD: {}] User already leased: {}", current.getName(), held.user());
+            return held.user();
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + ACQUIRE_TIMEOUT.toNanos();
+        String user = null;
         try {
-            String user = availableUsers.take(); // Will block until available
-            threadUser.set(user);
-            logger.info("[THREAD: {}] ✅ Acquired user: {}", Thread.currentThread().getName(), user);
-            return user;
+            while (user == null && System.nanoTime() < deadline) {
+                long sliceMs = Math.min(RECLAIM_INTERVAL_MS, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+                user = availableUsers.poll(Math.max(1, sliceMs), TimeUnit.MILLISECONDS);
+                if (user == null) {
+                    reclaimDeadThreads();
+                }
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Interrupted while waiting for test user", e);
         }
+
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        recordWait(waitedMs, user != null);
+        if (user == null) {
+            throw new RuntimeException(String.format("No test user available after %d s; %d of %d leased: %s",
+                    ACQUIRE_TIMEOUT.toSeconds(), leases.size(), users.size(),
+                    leases.values().stream().map(Lease::describe).toList()));
+        }
+
+        leases.put(current, new Lease(user, current, findCaller(), Instant.now()));
+        leaseCounts.computeIfAbsent(user, key -> new AtomicLong()).incrementAndGet();
+        logger.info("[THREAD: {}] ✅ Acquired user: {} (waited {} ms)", current.getName(), user, waitedMs);
+        return user;
     }
 
     /**
-     * Release user back to pool
+     * Release the current thread's lease back to the pool
      */
     public static void releaseUser() {
-        String user = threadUser.get();
-        if (user != null) {
-            availableUsers.offer(user);
-            threadUser.remove();
-            logger.info("[THREAD: {}] ♻️ Released user: {}", Thread.currentThread().getName(), user);
+        Lease lease = leases.remove(Thread.currentThread());
+        if (lease != null) {
+            availableUsers.offer(lease.user());
+            logger.info("[THREAD: {}] ♻️ Released user: {}", Thread.currentThread().getName(), lease.user());
         } else {
-            logger.warn("[THREAD: {}] Tried to release user but none was found for this thread", Thread.currentThread().getName());
+            logger.debug("[THREAD: {}] No user leased, nothing to release", Thread.currentThread().getName());
+        }
+    }
+
+    /**
+     * Takes a user that nobody leases out of the pool, for background work on its account; returns
+     * false if it is leased. Acquirers wait for it until {@link #returnUser(String)}.
+     */
+    public static boolean reserveUser(String user) {
+        return availableUsers.remove(user);
+    }
+
+    /**
+     * Ends the current thread's lease without putting the user back, so background work can finish
+     * with the account first and then call {@link #returnUser(String)}. Returns the user, or null if
+     * the thread holds no lease.
+     */
+    public static String handOverLease() {
+        Lease lease = leases.remove(Thread.currentThread());
+        return lease != null ? lease.user() : null;
+    }
+
+    /**
+     * Puts a user taken by {@link #reserveUser(String)} or {@link #handOverLease()} back into the pool.
+     */
+    public static void returnUser(String user) {
+        availableUsers.offer(user);
+        logger.debug("♻️ User back in pool after background work: {}", user);
+    }
+
+    /**
+     * How many times the user has been leased so far.
+     */
+    public static long leaseCount(String user) {
+        AtomicLong count = leaseCounts.get(user);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * Safety net for code paths that forgot to release: frees the current thread's lease and
+     * records it as a leak.
+     */
+    public static void reclaimCurrentThread(String reason) {
+        Lease lease = leases.remove(Thread.currentThread());
+        if (lease != null) {
+            reclaim(lease, reason);
         }
     }
 
@@ -56,6 +200,73 @@ public class UserPoolManager {
      * Get current thread’s user
      */
     public static String getCurrentUser() {
-        return threadUser.get();
+        Lease lease = leases.get(Thread.currentThread());
+        return lease != null ? lease.user() : null;
+    }
+
+    private static void reclaimDeadThreads() {
+        leases.forEach((thread, lease) -> {
+            if (!thread.isAlive() && leases.remove(thread, lease)) {
+                reclaim(lease, "owner thread ended");
+            }
+        });
+    }
+
+    private static void reclaim(Lease lease, String reason) {
+        String leak = lease.describe() + " - reclaimed: " + reason;
+        leaks.add(leak);
+        availableUsers.offer(lease.user());
+        logger.warn("⚠️ Leaked user lease {}", leak);
+    }
+
+    private static void recordWait(long waitedMs, boolean acquired) {
+        if (!acquired) {
+            acquireTimeouts.incrementAndGet();
+        }
+        int bucket = 0;
+        while (bucket < WAIT_BUCKETS_MS.length && waitedMs >= WAIT_BUCKETS_MS[bucket]) {
+            bucket++;
+        }
+        waitHistogram.incrementAndGet(bucket);
+        maxWaitMs.accumulateAndGet(waitedMs, Math::max);
+    }
+
+    private static String findCaller() {
+        return WALKER.walk(frames -> frames
+                .filter(frame -> !frame.getClassName().equals(UserPoolManager.class.getName()))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1) + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+
+    private static void writeReport() {
+        long acquisitions = 0;
+        for (int i = 0; i < waitHistogram.length(); i++) {
+            acquisitions += waitHistogram.get(i);
+        }
+        if (acquisitions == 0) {
+            return;
+        }
+
+        StringBuilder report = new StringBuilder(String.format("Pool size %d, %d acquisitions, %d timed out, max wait %d ms%n%n",
+                users.size(), acquisitions, acquireTimeouts.get(), maxWaitMs.get()));
+        report.append(String.format("Time waiting for a user:%n"));
+        long lower = 0;
+        for (int i = 0; i < waitHistogram.length(); i++) {
+            String range = i < WAIT_BUCKETS_MS.length
+                    ? String.format("%d-%d ms", lower, WAIT_BUCKETS_MS[i])
+                    : String.format(">= %d ms", lower);
+            report.append(String.format("  %-16s %6d%n", range, waitHistogram.get(i)));
+            lower = i < WAIT_BUCKETS_MS.length ? WAIT_BUCKETS_MS[i] : lower;
+        }
+
+        report.append(String.format("%nLeaked leases (reclaimed): %d%n", leaks.size()));
+        leaks.forEach(leak -> report.append("  ").append(leak).append(System.lineSeparator()));
+        report.append(String.format("%nLeases still held at exit: %d%n", leases.size()));
+        leases.values().forEach(lease -> report.append("  ").append(lease.describe()).append(System.lineSeparator()));
+
+        SuiteReport.writeSection("user-pool", report.toString());
+        SuiteReport.put("User pool", String.format("%d users, max wait %d ms, %d leaks, %d timeouts",
+                users.size(), maxWaitMs.get(), leaks.size() + leases.size(), acquireTimeouts.get()));
     }
 }
@@ -0,0 +1,189 @@
+package com.opencart.utils;
+
+import com.opencart.api.clients.ApiRoutes;
+import io.restassured.filter.cookie.CookieFilter;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registers extra test accounts through the storefront's account/register route. Accounts are
+ * created on every distinct host the suite talks to (UI baseUrl and the API host) and remembered in
+ * a registry file, so later runs reuse them instead of registering again. An account that only got
+ * onto some hosts is recorded as an {@code # incomplete} line and finished before new ones are made.
+ * Delete the registry file if the demo shops were reset.
+ */
+public class UserProvisioner {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserProvisioner.class);
+
+    private static final Path REGISTRY = Path.of(ConfigReader.getProperty("userPool.registryFile", ".test-users"));
+    private static final String INCOMPLETE = "# incomplete ";
+
+    /**
+     * Returns up to {@code count} accounts not in {@code exclude}: registry entries first, then
+     * newly registered ones. Fewer are returned if registration fails.
+     */
+    public static synchronized List<String> provide(int count, Set<String> exclude) {
+        List<String> accounts = new ArrayList<>();
+        Set<String> registered = readRegistry();
+        for (String email : registered) {
+            if (accounts.size() == count) {
+                return accounts;
+            }
+            if (!exclude.contains(email)) {
+                accounts.add(email);
+            }
+        }
+
+        String password = ConfigReader.getProperty("testUserPassword");
+        for (Map.Entry<String, List<String>> incomplete : readIncomplete().entrySet()) {
+            String email = incomplete.getKey();
+            if (accounts.size() == count) {
+                return accounts;
+            }
+            if (registered.contains(email) || exclude.contains(email)) {
+                continue;
+            }
+            if (register(email, password, incomplete.getValue()).size() == incomplete.getValue().size()) {
+                logger.info("🆕 Completed test account: {}", email);
+                appendToRegistry(email);
+                accounts.add(email);
+            }
+        }
+
+        List<String> hosts = hosts();
+        while (accounts.size() < count) {
+            String email = String.format("qa.pool.%d.%d@example.com", System.currentTimeMillis(), accounts.size());
+            List<String> created = register(email, password, hosts);
+            if (created.size() < hosts.size()) {
+                if (!created.isEmpty()) {
+                    List<String> missing = new ArrayList<>(hosts);
+                    missing.removeAll(created);
+                    logger.warn("⚠️ {} exists only on {}; recorded as incomplete", email, created);
+                    appendToRegistry(INCOMPLETE + email + " " + String.join(" ", missing));
+                }
+                logger.warn("⚠️ Stopped provisioning after {} account(s)", accounts.size());
+                break;
+            }
+            logger.info("🆕 Registered test account: {}", email);
+            appendToRegistry(email);
+            accounts.add(email);
+        }
+        return accounts;
+    }
+
+    /**
+     * UI and API hosts without duplicates, e.g. when baseUrl points at the API shop.
+     */
+    private static List<String> hosts() {
+        Set<String> hosts = new LinkedHashSet<>();
+        hosts.add(normalize(ConfigReader.getProperty("baseUrl")));
+        hosts.add(normalize(ApiRoutes.BASE_URI));
+        return List.copyOf(hosts);
+    }
+
+    /**
+     * Registers the account on each host in turn, stopping at the first failure; returns the hosts
+     * it now exists on.
+     */
+    private static List<String> register(String email, String password, List<String> hosts) {
+        List<String> created = new ArrayList<>();
+        for (String host : hosts) {
+            try {
+                Response response = SpecFactory.getFormRequestSpec(host, new CookieFilter())
+                        .formParam("firstname", "Pool")
+                        .formParam("lastname", "User")
+                        .formParam("email", email)
+                        .formParam("telephone", "5550100")
+                        .formParam("password", password)
+                        .formParam("confirm", password)
+                        .formParam("newsletter", "0")
+                        .formParam("agree", "1")
+                        .post(ApiRoutes.REGISTER);
+
+                String location = response.getHeader("Location");
+                String body = response.asString();
+                // "already registered": an earlier attempt got through without us seeing the response
+                boolean exists = (location != null && location.contains("account/success"))
+                        || body.contains("Your Account Has Been Created")
+                        || body.contains("E-Mail Address is already registered");
+                if (!exists) {
+                    logger.warn("⚠️ Registration of {} rejected by {} (status {})", email, host, response.statusCode());
+                    return created;
+                }
+                created.add(host);
+            } catch (Exception e) {
+                logger.warn("⚠️ Registration of {} on {} failed: {}", email, host, e.getMessage());
+                return created;
+            }
+        }
+        return created;
+    }
+
+    private static Set<String> readRegistry() {
+        Set<String> emails = new LinkedHashSet<>();
+        if (!Files.exists(REGISTRY)) {
+            return emails;
+        }
+        try {
+            for (String line : Files.readAllLines(REGISTRY, StandardCharsets.UTF_8)) {
+                if (!line.isBlank() && !line.startsWith("#")) {
+                    emails.add(line.trim());
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("⚠️ Could not read user registry {}: {}", REGISTRY, e.getMessage());
+        }
+        return emails;
+    }
+
+    /**
+     * Accounts from {@code # incomplete <email> <missing host>...} lines, with the hosts they still lack.
+     */
+    private static Map<String, List<String>> readIncomplete() {
+        Map<String, List<String>> incomplete = new LinkedHashMap<>();
+        if (!Files.exists(REGISTRY)) {
+            return incomplete;
+        }
+        try {
+            for (String line : Files.readAllLines(REGISTRY, StandardCharsets.UTF_8)) {
+                if (line.startsWith(INCOMPLETE)) {
+                    List<String> parts = List.of(line.substring(INCOMPLETE.length()).trim().split("\\s+"));
+                    if (parts.size() > 1) {
+                        incomplete.put(parts.get(0), parts.subList(1, parts.size()));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("⚠️ Could not read user registry {}: {}", REGISTRY, e.getMessage());
+        }
+        return incomplete;
+    }
+
+    private static void appendToRegistry(String line) {
+        try {
+            Files.writeString(REGISTRY, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warn("⚠️ Could not record {} in user registry: {}", line, e.getMessage());
+        }
+    }
+
+    private static String normalize(String url) {
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
@@ -1,5 +1,6 @@
 package com.opencart.utils;
 
+import com.opencart.ui.models.ElementState;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -8,16 +9,35 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 public class WaitUtils {
     private static final Logger logger = LoggerFactory.getLogger(WaitUtils.class);
 
+    public static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration PRESENCE_POLL = Duration.ofMillis(100);
+
     private ThreadLocal<WebDriverWait> wait = ThreadLocal.withInitial(
-            () -> new WebDriverWait(DriverFactory.getDriver(), Duration.ofSeconds(30))
+            () -> new WebDriverWait(DriverFactory.getDriver(), TIMEOUT)
     );
 
+    // MutationObserver waits (one remote call per wait); waits.engine=polling restores ExpectedConditions
+    private boolean useWatcher(By locator) {
+        return DomWatcher.isEnabled() && DomWatcher.supports(locator);
+    }
+
     public WebElement waitForVisibility(By locator) {
         try {
+            if (useWatcher(locator)) {
+                try {
+                    return DomWatcher.await(DriverFactory.getDriver(), locator, DomWatcher.Mode.VISIBLE, null, TIMEOUT).element();
+                } catch (TimeoutException e) {
+                    throw e;
+                } catch (WebDriverException e) {
+                    logger.debug("DOM watcher unavailable for {}, polling instead: {}", locator, e.getMessage());
+                }
+            }
             return wait.get().until(ExpectedConditions.visibilityOfElementLocated(locator));
         } catch (TimeoutException e) {
             logger.error("❌ Element not clickable after timeout: {}", locator);
@@ -25,6 +45,34 @@ public class WaitUtils {
         }
     }
 
+    /**
+     * Waits for the element to be visible with non-empty text and returns that text in the same call.
+     */
+    public String waitForVisibleText(By locator) {
+        return waitForTextChange(locator, null);
+    }
+
+    /**
+     * Waits until the element shows non-empty text different from {@code previousText}.
+     */
+    public String waitForTextChange(By locator, String previousText) {
+        if (useWatcher(locator)) {
+            try {
+                return DomWatcher.await(DriverFactory.getDriver(), locator, DomWatcher.Mode.TEXT, previousText, TIMEOUT).text();
+            } catch (TimeoutException e) {
+                logger.error("❌ No new text in {} after timeout", locator);
+                throw e;
+            } catch (WebDriverException e) {
+                logger.debug("DOM watcher unavailable for {}, polling instead: {}", locator, e.getMessage());
+            }
+        }
+        return wait.get().until(driver -> {
+            WebElement element = driver.findElement(locator);
+            String text = element.isDisplayed() ? element.getText().trim() : "";
+            return !text.isEmpty() && !text.equals(previousText) ? text : null;
+        });
+    }
+
     public WebElement waitForElementToBeClickable(By locator) {
         return wait.get().until(ExpectedConditions.elementToBeClickable(locator));
     }
@@ -62,10 +110,22 @@ public class WaitUtils {
             );
         } catch (Exception ignored) {
         }
+
+        PageLoadTimings.record(driver);
     }
 
 
     public void waitUntilInvisibilityOfElementLocated(By locator) {
+        if (useWatcher(locator)) {
+            try {
+                DomWatcher.await(DriverFactory.getDriver(), locator, DomWatcher.Mode.HIDDEN, null, TIMEOUT);
+                return;
+            } catch (TimeoutException e) {
+                throw e;
+            } catch (WebDriverException e) {
+                logger.debug("DOM watcher unavailable for {}, polling instead: {}", locator, e.getMessage());
+            }
+        }
         wait.get().until(driver -> {
             try {
                 List<WebElement> elements = driver.findElements(locator);
@@ -80,4 +140,57 @@ public class WaitUtils {
         wait.get().until(ExpectedConditions.urlContains(urlPart));
     }
 
+    /**
+     * Bounded checks for optional elements. They resolve locators in the page (see {@link DomQuery}),
+     * so an absent element costs at most the given window and the implicit wait stays untouched.
+     */
+    public boolean waitForPresence(By locator, Duration within) {
+        return pollWithin(within, driver -> DomQuery.isPresent(driver, locator));
+    }
+
+    public boolean waitForAnyPresent(Duration within, By... locators) {
+        return pollWithin(within, driver -> {
+            for (By locator : locators) {
+                if (DomQuery.isPresent(driver, locator)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    public boolean waitForAbsence(By locator, Duration within) {
+        return pollWithin(within, driver -> !DomQuery.isPresent(driver, locator));
+    }
+
+    public boolean waitForAllVisible(Duration within, List<By> locators) {
+        return pollWithin(within, driver -> DomQuery.states(driver, locators, List.of()).values().stream()
+                .allMatch(ElementState::displayed));
+    }
+
+    /**
+     * Waits until every group has at least one present locator, e.g. a link with an alternative locator.
+     */
+    public boolean waitForEachPresent(Duration within, List<List<By>> groups) {
+        List<By> all = groups.stream().flatMap(List::stream).toList();
+        return pollWithin(within, driver -> {
+            Map<By, ElementState> states = DomQuery.states(driver, all, List.of());
+            return groups.stream().allMatch(group -> group.stream().anyMatch(locator -> states.get(locator).present()));
+        });
+    }
+
+    public boolean waitForVisibilityWithin(By locator, Duration within) {
+        return pollWithin(within, driver -> DomQuery.isVisible(driver, locator));
+    }
+
+    private boolean pollWithin(Duration within, Function<WebDriver, Boolean> condition) {
+        try {
+            return new WebDriverWait(DriverFactory.getDriver(), within, PRESENCE_POLL)
+                    .ignoring(JavascriptException.class)
+                    .until(condition);
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
 }
\ No newline at end of file
@@ -1,17 +1,79 @@
 package com.opencart.utils;
 
+import com.opencart.api.clients.CatalogApi;
+import com.opencart.api.clients.WishlistApi;
 import com.opencart.ui.models.WishlistSetupResult;
 import com.opencart.ui.pages.HomePage;
 import com.opencart.ui.pages.WishlistPage;
+import io.restassured.response.Response;
+import org.jsoup.Jsoup;
+import org.openqa.selenium.Cookie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.List;
 
 public class WishListUtils {
+
+    private static final Logger logger = LoggerFactory.getLogger(WishListUtils.class);
+
+    // "api" sets the wishlist over HTTP with the browser's session, "ui" clicks through the storefront
+    private static final boolean API_SEEDING = ConfigReader.getProperty("wishlistSeeding.mode", "api").equalsIgnoreCase("api");
+
+    /**
+     * Leaves exactly {@code product} in the wishlist and opens the wishlist page.
+     * Seeds over HTTP when wishlistSeeding.mode=api, falling back to the UI if that fails.
+     */
     public static WishlistSetupResult prepareWishlistWithOnly(
             WishlistPage wishlistPage,
             HomePage homePage,
             String product) {
 
+        if (API_SEEDING) {
+            try {
+                return seedWishlistOverHttp(wishlistPage, product);
+            } catch (RuntimeException e) {
+                logger.warn("⚠️ API wishlist seeding failed, using the UI: {}", e.getMessage());
+            }
+        }
+        return prepareWishlistInBrowser(wishlistPage, homePage, product);
+    }
+
+    /**
+     * Removes every other product in parallel and (re-)adds {@code product} through WishlistApi on
+     * the browser's OCSESSID, checks the wishlist now holds only that product, then loads the
+     * wishlist page once. Throws when the seed didn't take, so the caller falls back to the UI.
+     */
+    private static WishlistSetupResult seedWishlistOverHttp(WishlistPage wishlistPage, String product) {
+        Cookie browserSession = DriverFactory.getDriver().manage().getCookieNamed("OCSESSID");
+        if (browserSession == null) {
+            throw new RuntimeException("browser has no OCSESSID cookie yet");
+        }
+        SessionManager session = SessionManager.forBrowser(browserSession.getValue());
+        WishlistApi wishlistApi = new WishlistApi(session);
+        int productId = new CatalogApi(session).findProductId(product);
+
+        List<Integer> others = wishlistApi.getProductIds().stream().filter(id -> id != productId).toList();
+        wishlistApi.removeAll(others);
+
+        // Adding is idempotent and returns the same message as the UI's alert
+        Response added = wishlistApi.addToWishlist(productId);
+        String successMessage = Jsoup.parse(added.jsonPath().getString("success")).text();
+        List<Integer> seeded = wishlistApi.getProductIds();
+        if (!seeded.equals(List.of(productId))) {
+            throw new RuntimeException("wishlist holds " + seeded + " after seeding, expected only " + productId);
+        }
+        logger.info("🌱 Seeded wishlist over HTTP: {} ({} removed; {})", product, others.size(), successMessage);
+
+        wishlistPage.navigateToWishlist();
+        return new WishlistSetupResult(successMessage, wishlistPage.isProductInWishlist(product));
+    }
+
+    private static WishlistSetupResult prepareWishlistInBrowser(
+            WishlistPage wishlistPage,
+            HomePage homePage,
+            String product) {
+
         wishlistPage.navigateToWishlist();
         List<String> currentProducts = wishlistPage.getAllProductNamesInWishList();
 